@@ -0,0 +1,65 @@
+package com.Acrobot.Breeze.Benchmarks;
+
+import com.Acrobot.Breeze.Utils.InventoryUtil;
+import org.bukkit.Material;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Acrobot
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InventoryUtilBenchmark {
+    @Param({"1", "9", "64"})
+    public int stacks;
+
+    private ItemStack[] items;
+    private Inventory emptyInventory;
+    private Inventory fullInventory;
+
+    @Setup
+    public void setUp() {
+        StubServer.install();
+
+        items = new ItemStack[stacks];
+        for (int i = 0; i < stacks; i++) {
+            items[i] = new ItemStack(i % 3 == 0 ? Material.DIAMOND : Material.COBBLESTONE, 8);
+        }
+
+        emptyInventory = StubInventory.create();
+
+        ItemStack[] contents = new ItemStack[27];
+        for (int i = 0; i < contents.length; i++) {
+            contents[i] = new ItemStack(i % 2 == 0 ? Material.DIAMOND : Material.COBBLESTONE, 64);
+        }
+        fullInventory = StubInventory.create(contents);
+    }
+
+    @Benchmark
+    public boolean fits() {
+        return InventoryUtil.fits(items, emptyInventory);
+    }
+
+    @Benchmark
+    public boolean hasItems() {
+        return InventoryUtil.hasItems(items, fullInventory);
+    }
+
+    @Benchmark
+    public ItemStack[] mergeSimilarStacks() {
+        return InventoryUtil.mergeSimilarStacks(items);
+    }
+
+    @Benchmark
+    public ItemStack[] getItemsStacked() {
+        return InventoryUtil.getItemsStacked(items);
+    }
+}
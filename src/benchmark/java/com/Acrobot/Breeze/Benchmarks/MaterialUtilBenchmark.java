@@ -0,0 +1,50 @@
+package com.Acrobot.Breeze.Benchmarks;
+
+import com.Acrobot.Breeze.Utils.MaterialUtil;
+import org.bukkit.Material;
+import org.bukkit.inventory.ItemStack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Acrobot
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MaterialUtilBenchmark {
+    @Param({"STONE", "Diamond Sword", "LightBlueStainedGlassPane", "Lig Blu Sta Gla Pan"})
+    public String itemName;
+
+    private ItemStack item;
+
+    @Setup
+    public void setUp() {
+        StubServer.install();
+        item = new ItemStack(Material.LIGHT_BLUE_STAINED_GLASS_PANE, 16);
+    }
+
+    @Benchmark
+    public Material getMaterial() {
+        return MaterialUtil.getMaterial(itemName);
+    }
+
+    @Benchmark
+    public ItemStack getItem() {
+        return MaterialUtil.getItem(itemName);
+    }
+
+    @Benchmark
+    public String getName() {
+        return MaterialUtil.getName(item);
+    }
+
+    @Benchmark
+    public String getSignName() {
+        return MaterialUtil.getSignName(item);
+    }
+}
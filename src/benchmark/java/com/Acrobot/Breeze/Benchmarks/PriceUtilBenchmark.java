@@ -0,0 +1,30 @@
+package com.Acrobot.Breeze.Benchmarks;
+
+import com.Acrobot.Breeze.Utils.PriceUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Acrobot
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PriceUtilBenchmark {
+    @Param({"B 10", "B 10:S 5", "5 S : 10.25 B", "free"})
+    public String priceLine;
+
+    @Benchmark
+    public double buyPrice() {
+        return PriceUtil.get(priceLine, PriceUtil.BUY_INDICATOR);
+    }
+
+    @Benchmark
+    public double sellPrice() {
+        return PriceUtil.get(priceLine, PriceUtil.SELL_INDICATOR);
+    }
+}
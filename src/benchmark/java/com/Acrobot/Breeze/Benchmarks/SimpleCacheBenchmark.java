@@ -0,0 +1,49 @@
+package com.Acrobot.Breeze.Benchmarks;
+
+import com.Acrobot.Breeze.Collection.SimpleCache;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Acrobot
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleCacheBenchmark {
+    private static final int KEYS = 4096;
+
+    @Param({"1000", "10000"})
+    public int cacheSize;
+
+    private SimpleCache<String, Integer> cache;
+    private String[] keys;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        cache = new SimpleCache<>(cacheSize);
+        keys = new String[KEYS];
+
+        for (int i = 0; i < KEYS; i++) {
+            keys[i] = "key" + i;
+            cache.put(keys[i], i);
+        }
+    }
+
+    @Benchmark
+    public Integer get() {
+        index = (index + 1) & (KEYS - 1);
+        return cache.get(keys[index]);
+    }
+
+    @Benchmark
+    public Integer put() {
+        index = (index + 1) & (KEYS - 1);
+        return cache.put(keys[index], index);
+    }
+}
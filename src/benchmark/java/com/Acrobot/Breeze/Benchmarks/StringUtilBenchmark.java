@@ -0,0 +1,25 @@
+package com.Acrobot.Breeze.Benchmarks;
+
+import com.Acrobot.Breeze.Utils.StringUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Acrobot
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class StringUtilBenchmark {
+    @Param({"Stone", "Light Blue Stained Glass Pane", "Diamond Sword#3f"})
+    public String text;
+
+    @Benchmark
+    public int stringWidth() {
+        return StringUtil.getMinecraftStringWidth(text);
+    }
+}
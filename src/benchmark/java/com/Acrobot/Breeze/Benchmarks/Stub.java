@@ -0,0 +1,87 @@
+package com.Acrobot.Breeze.Benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Builds implementations of Bukkit interfaces that only answer the methods they were given.
+ * Every other method throws an UnsupportedOperationException, so that missing stubs are noticed.
+ *
+ * @author Acrobot
+ */
+public class Stub<T> {
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final Class<T> type;
+    private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+
+    private Stub(Class<T> type) {
+        this.type = type;
+    }
+
+    /**
+     * Starts a stub of the interface
+     *
+     * @param type Interface to implement
+     * @return Stub builder
+     */
+    public static <T> Stub<T> of(Class<T> type) {
+        return new Stub<>(type);
+    }
+
+    /**
+     * Answers all calls of the method (and its overloads)
+     *
+     * @param method Name of the method
+     * @param answer Function receiving the arguments and returning the result
+     * @return This builder
+     */
+    public Stub<T> on(String method, Function<Object[], Object> answer) {
+        answers.put(method, answer);
+        return this;
+    }
+
+    /**
+     * Returns a constant value from all calls of the method (and its overloads)
+     *
+     * @param method Name of the method
+     * @param value  Value to return
+     * @return This builder
+     */
+    public Stub<T> returns(String method, Object value) {
+        return on(method, args -> value);
+    }
+
+    /**
+     * Creates the implementation. Objects are only equal to themselves.
+     *
+     * @return Implementation of the interface
+     */
+    public T create() {
+        Map<String, Function<Object[], Object>> answers = new HashMap<>(this.answers);
+        String name = type.getSimpleName() + "Stub";
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return name;
+                }
+            }
+
+            Function<Object[], Object> answer = answers.get(method.getName());
+
+            if (answer == null) {
+                throw new UnsupportedOperationException(name + " doesn't implement " + method);
+            }
+
+            return answer.apply(args != null ? args : NO_ARGUMENTS);
+        }));
+    }
+}
@@ -0,0 +1,135 @@
+package com.Acrobot.Breeze.Benchmarks;
+
+import org.bukkit.Material;
+import org.bukkit.event.inventory.InventoryType;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
+
+import java.util.Arrays;
+import java.util.HashMap;
+
+/**
+ * Inventories backed by an array, implementing the methods used by {@link com.Acrobot.Breeze.Utils.InventoryUtil}
+ *
+ * @author Acrobot
+ */
+public class StubInventory {
+    private static final int PLAYER_STORAGE_SIZE = 36;
+
+    /**
+     * Creates a chest inventory with the given contents
+     *
+     * @param contents Contents, null for an empty slot
+     * @return The inventory
+     */
+    public static Inventory create(ItemStack... contents) {
+        return stub(Inventory.class, InventoryType.CHEST, Arrays.copyOf(contents, InventoryType.CHEST.getDefaultSize())).create();
+    }
+
+    /**
+     * Creates a player's inventory with the given storage contents and nothing in the hands
+     *
+     * @param contents Contents, null for an empty slot
+     * @return The inventory
+     */
+    public static PlayerInventory createPlayerInventory(ItemStack... contents) {
+        return stub(PlayerInventory.class, InventoryType.PLAYER, Arrays.copyOf(contents, PLAYER_STORAGE_SIZE))
+                .on("getItemInMainHand", args -> new ItemStack(Material.AIR))
+                .on("getItemInOffHand", args -> new ItemStack(Material.AIR))
+                .create();
+    }
+
+    private static <T extends Inventory> Stub<T> stub(Class<T> type, InventoryType inventoryType, ItemStack[] slots) {
+        return Stub.of(type)
+                .returns("getType", inventoryType)
+                .returns("getSize", slots.length)
+                .returns("getMaxStackSize", 64)
+                .on("getContents", args -> slots.clone())
+                .on("getStorageContents", args -> slots.clone())
+                .on("getItem", args -> slots[(Integer) args[0]])
+                .on("setItem", args -> slots[(Integer) args[0]] = (ItemStack) args[1])
+                .on("contains", args -> !all((Material) args[0], slots).isEmpty())
+                .on("all", args -> all((Material) args[0], slots))
+                .on("addItem", args -> addItem((ItemStack[]) args[0], slots))
+                .on("removeItem", args -> removeItem((ItemStack[]) args[0], slots));
+    }
+
+    private static HashMap<Integer, ItemStack> all(Material material, ItemStack[] slots) {
+        HashMap<Integer, ItemStack> found = new HashMap<>();
+
+        for (int i = 0; i < slots.length; i++) {
+            if (slots[i] != null && slots[i].getType() == material) {
+                found.put(i, slots[i]);
+            }
+        }
+
+        return found;
+    }
+
+    private static HashMap<Integer, ItemStack> addItem(ItemStack[] items, ItemStack[] slots) {
+        HashMap<Integer, ItemStack> leftovers = new HashMap<>();
+
+        for (int i = 0; i < items.length; i++) {
+            ItemStack item = items[i];
+            int left = item.getAmount();
+
+            for (int slot = 0; slot < slots.length && left > 0; slot++) {
+                if (slots[slot] != null && slots[slot].getAmount() > 0 && slots[slot].isSimilar(item)) {
+                    int added = Math.min(left, item.getMaxStackSize() - slots[slot].getAmount());
+
+                    if (added > 0) {
+                        slots[slot].setAmount(slots[slot].getAmount() + added);
+                        left -= added;
+                    }
+                }
+            }
+
+            for (int slot = 0; slot < slots.length && left > 0; slot++) {
+                if (slots[slot] == null || slots[slot].getAmount() <= 0) {
+                    slots[slot] = item.clone();
+                    slots[slot].setAmount(Math.min(left, item.getMaxStackSize()));
+                    left -= slots[slot].getAmount();
+                }
+            }
+
+            if (left > 0) {
+                ItemStack leftover = item.clone();
+                leftover.setAmount(left);
+                leftovers.put(i, leftover);
+            }
+        }
+
+        return leftovers;
+    }
+
+    private static HashMap<Integer, ItemStack> removeItem(ItemStack[] items, ItemStack[] slots) {
+        HashMap<Integer, ItemStack> leftovers = new HashMap<>();
+
+        for (int i = 0; i < items.length; i++) {
+            ItemStack item = items[i];
+            int left = item.getAmount();
+
+            for (int slot = 0; slot < slots.length && left > 0; slot++) {
+                if (slots[slot] != null && slots[slot].isSimilar(item)) {
+                    int removed = Math.min(left, slots[slot].getAmount());
+
+                    slots[slot].setAmount(slots[slot].getAmount() - removed);
+                    if (slots[slot].getAmount() <= 0) {
+                        slots[slot] = null;
+                    }
+
+                    left -= removed;
+                }
+            }
+
+            if (left > 0) {
+                ItemStack leftover = item.clone();
+                leftover.setAmount(left);
+                leftovers.put(i, leftover);
+            }
+        }
+
+        return leftovers;
+    }
+}
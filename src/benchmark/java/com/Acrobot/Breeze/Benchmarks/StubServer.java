@@ -0,0 +1,55 @@
+package com.Acrobot.Breeze.Benchmarks;
+
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.inventory.ItemFactory;
+
+import java.util.Objects;
+import java.util.logging.Logger;
+
+/**
+ * Minimal Server, so that ItemStacks without meta can be used outside of a running server
+ *
+ * @author Acrobot
+ */
+public class StubServer {
+    /**
+     * Returns a server stub answering the methods needed for plain ItemStacks,
+     * which can be extended before it is installed
+     *
+     * @return Server stub
+     */
+    public static Stub<Server> stub() {
+        ItemFactory itemFactory = Stub.of(ItemFactory.class)
+                .on("equals", args -> Objects.equals(args[0], args[1]))
+                .returns("getItemMeta", null)
+                .returns("isApplicable", true)
+                .on("asMetaFor", args -> args[0])
+                .create();
+
+        return Stub.of(Server.class)
+                .returns("getName", "StubServer")
+                .returns("getVersion", "benchmark")
+                .returns("getBukkitVersion", "benchmark")
+                .returns("getLogger", Logger.getLogger("StubServer"))
+                .returns("getItemFactory", itemFactory);
+    }
+
+    /**
+     * Sets the default stub as Bukkit's server, if there is no server yet
+     */
+    public static void install() {
+        install(stub());
+    }
+
+    /**
+     * Sets the stub as Bukkit's server, if there is no server yet
+     *
+     * @param server Server stub
+     */
+    public static synchronized void install(Stub<Server> server) {
+        if (Bukkit.getServer() == null) {
+            Bukkit.setServer(server.create());
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.Acrobot.ChestShop.Benchmarks;
+
+import com.Acrobot.ChestShop.Signs.ChestShopSign;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * @author Acrobot
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChestShopSignBenchmark {
+    private final String[] validSign = {"Acrobot", "64", "B 10:S 5", "Diamond Sword"};
+    private final String[] colouredSign = {"§1Acrobot", "§264", "§3B 10:S 5", "§4Diamond Sword"};
+    private final String[] invalidSign = {"", "sixty four", "B 10", "Diamond Sword"};
+
+    @Benchmark
+    public boolean valid() {
+        return ChestShopSign.isValid(validSign);
+    }
+
+    @Benchmark
+    public boolean coloured() {
+        return ChestShopSign.isValid(colouredSign);
+    }
+
+    @Benchmark
+    public boolean invalid() {
+        return ChestShopSign.isValid(invalidSign);
+    }
+}
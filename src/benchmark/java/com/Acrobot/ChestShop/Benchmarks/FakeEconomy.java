@@ -0,0 +1,152 @@
+package com.Acrobot.ChestShop.Benchmarks;
+
+import com.Acrobot.ChestShop.Economy.Money;
+import com.Acrobot.ChestShop.Events.Economy.*;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.Listener;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-memory economy answering ChestShop's currency events like an economy plugin would.
+ * Every call waits for the configured latency, to simulate a database-backed economy.
+ *
+ * @author Acrobot
+ */
+public class FakeEconomy implements Listener {
+    private final Map<UUID, Money> balances = new HashMap<>();
+    private final long latency;
+
+    /**
+     * @param latency     Latency of every economy call
+     * @param latencyUnit Unit of the latency
+     */
+    public FakeEconomy(long latency, TimeUnit latencyUnit) {
+        this.latency = latencyUnit.toNanos(latency);
+    }
+
+    /**
+     * Creates an account with the given balance
+     *
+     * @param account Account's UUID
+     * @param balance Initial balance
+     */
+    public void createAccount(UUID account, Money balance) {
+        balances.put(account, balance);
+    }
+
+    private Money getBalance(UUID account) {
+        simulateLatency();
+        return balances.get(account);
+    }
+
+    private boolean deposit(UUID account, Money amount) {
+        Money balance = getBalance(account);
+
+        if (balance == null) {
+            return false;
+        }
+
+        balances.put(account, balance.add(amount));
+        return true;
+    }
+
+    private boolean withdraw(UUID account, Money amount) {
+        Money balance = getBalance(account);
+
+        if (balance == null || balance.compareTo(amount) < 0) {
+            return false;
+        }
+
+        balances.put(account, balance.subtract(amount));
+        return true;
+    }
+
+    private void simulateLatency() {
+        if (latency > 0) {
+            LockSupport.parkNanos(latency);
+        }
+    }
+
+    @EventHandler
+    public void onAmountCheck(CurrencyAmountEvent event) {
+        if (!event.getExactAmount().isZero()) {
+            return;
+        }
+
+        Money balance = getBalance(event.getAccount());
+        event.setExactAmount(balance != null ? balance : Money.ZERO);
+    }
+
+    @EventHandler
+    public void onCurrencyCheck(CurrencyCheckEvent event) {
+        if (event.hasEnough()) {
+            return;
+        }
+
+        Money balance = getBalance(event.getAccount());
+        event.hasEnough(balance != null && balance.compareTo(event.getExactAmount()) >= 0);
+    }
+
+    @EventHandler
+    public void onAccountCheck(AccountCheckEvent event) {
+        if (event.hasAccount()) {
+            return;
+        }
+
+        event.hasAccount(getBalance(event.getAccount()) != null);
+    }
+
+    @EventHandler
+    public void onCurrencyFormat(CurrencyFormatEvent event) {
+        if (!event.getFormattedAmount().isEmpty()) {
+            return;
+        }
+
+        event.setFormattedAmount('$' + event.getExactAmount().toString());
+    }
+
+    @EventHandler
+    public void onCurrencyAdd(CurrencyAddEvent event) {
+        if (event.isAdded()) {
+            return;
+        }
+
+        event.setAdded(deposit(event.getTarget(), event.getExactAmount()));
+    }
+
+    @EventHandler
+    public void onCurrencySubtraction(CurrencySubtractEvent event) {
+        if (event.isSubtracted()) {
+            return;
+        }
+
+        event.setSubtracted(withdraw(event.getTarget(), event.getExactAmount()));
+    }
+
+    @EventHandler
+    public void onCurrencyTransfer(CurrencyTransferEvent event) {
+        if (event.hasBeenTransferred()) {
+            return;
+        }
+
+        if (!withdraw(event.getSender(), event.getExactAmount())) {
+            return;
+        }
+
+        event.setTransferred(deposit(event.getReceiver(), event.getExactAmount()));
+    }
+
+    @EventHandler
+    public void onCurrencyHoldCheck(CurrencyHoldEvent event) {
+        if (event.getAccount() == null) {
+            return;
+        }
+
+        event.canHold(getBalance(event.getAccount()) != null);
+    }
+}
@@ -0,0 +1,367 @@
+package com.Acrobot.ChestShop.Benchmarks;
+
+import com.Acrobot.Breeze.Benchmarks.Stub;
+import com.Acrobot.Breeze.Benchmarks.StubInventory;
+import com.Acrobot.Breeze.Benchmarks.StubServer;
+import com.Acrobot.Breeze.Utils.MaterialUtil;
+import com.Acrobot.ChestShop.ChestShop;
+import com.Acrobot.ChestShop.Configuration.Properties;
+import com.Acrobot.ChestShop.Database.Account;
+import com.Acrobot.ChestShop.Economy.Money;
+import com.Acrobot.ChestShop.Economy.TaxAccumulator;
+import com.Acrobot.ChestShop.Events.EventPipeline;
+import com.Acrobot.ChestShop.Events.PreTransactionEvent.TransactionOutcome;
+import com.Acrobot.ChestShop.Listeners.Economy.ServerAccountCorrector;
+import com.Acrobot.ChestShop.Listeners.Economy.TaxModule;
+import com.Acrobot.ChestShop.Listeners.Modules.DiscountModule;
+import com.Acrobot.ChestShop.Listeners.Modules.PriceRestrictionModule;
+import com.Acrobot.ChestShop.Listeners.Player.PlayerInteract;
+import com.Acrobot.ChestShop.Listeners.PostTransaction.*;
+import com.Acrobot.ChestShop.Listeners.PreTransaction.*;
+import com.Acrobot.ChestShop.Metrics.Histogram;
+import com.Acrobot.ChestShop.Metrics.MetricsRegistry;
+import com.Acrobot.ChestShop.Metrics.StageMetrics;
+import com.Acrobot.ChestShop.UUIDs.NameManager;
+import com.Acrobot.ChestShop.UUIDs.PlayerDTO;
+import org.bukkit.GameMode;
+import org.bukkit.Material;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.entity.Player;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.Action;
+import org.bukkit.event.player.PlayerInteractEvent;
+import org.bukkit.inventory.ItemStack;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginDescriptionFile;
+import org.bukkit.plugin.PluginManager;
+
+import java.io.File;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Simulates players clicking on shops, without a server.
+ * The clicks go through {@link PlayerInteract#onInteract(PlayerInteractEvent)} and all transaction listeners,
+ * with the accounts stored in a real (temporary) database and an in-memory economy.
+ *
+ * Options are given as key=value pairs, separated by spaces or commas:
+ * players, shops, clicks, warmup, latency (of the economy, in microseconds), seed and stages (true to time the single stages).
+ *
+ * @author Acrobot
+ */
+public class LoadTest {
+    private static final Material[] ITEMS = {Material.DIAMOND, Material.COBBLESTONE, Material.OAK_LOG, Material.IRON_INGOT, Material.BREAD};
+    private static final int ADMIN_SHOP_EVERY = 5;
+    private static final Money STARTING_BALANCE = Money.valueOf(1000000);
+
+    private final Map<String, String> options;
+    private final Map<UUID, Player> onlinePlayers = new HashMap<>();
+    private final LongAdder messages = new LongAdder();
+
+    private final ShopWorld world = new ShopWorld("world");
+    private final Logger logger = Logger.getLogger("ChestShop");
+    private FakeEconomy economy;
+
+    private Player[] players;
+    private Block[] shops;
+
+    private LoadTest(Map<String, String> options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+
+        for (String arg : args) {
+            for (String option : arg.split("[,\\s]+")) {
+                int separator = option.indexOf('=');
+
+                if (separator > 0) {
+                    options.put(option.substring(0, separator).toLowerCase(), option.substring(separator + 1));
+                }
+            }
+        }
+
+        new LoadTest(options).run();
+    }
+
+    private int getOption(String name, int defaultValue) {
+        return options.containsKey(name) ? Integer.parseInt(options.get(name)) : defaultValue;
+    }
+
+    private void run() throws Exception {
+        Path dataFolder = Files.createTempDirectory("chestshop-loadtest");
+
+        try {
+            setUp(dataFolder.toFile());
+
+            int clicks = getOption("clicks", 100000);
+            int warmup = getOption("warmup", 20000);
+            Random random = new Random(getOption("seed", 42));
+
+            System.out.printf("Simulating %d players clicking on %d shops (economy latency %dus)%n", players.length, shops.length, getOption("latency", 0));
+
+            simulate(warmup, random, new Histogram());
+            report(clicks, random);
+        } finally {
+            Files.walk(dataFolder).sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    private void setUp(File dataFolder) throws ReflectiveOperationException {
+        logger.setUseParentHandlers(false);
+
+        PluginManager pluginManager = Stub.of(PluginManager.class)
+                .returns("callEvent", null)
+                .returns("getPlugin", null)
+                .returns("getPermission", null)
+                .create();
+
+        StubServer.install(StubServer.stub()
+                .returns("getPluginManager", pluginManager)
+                .on("getOfflinePlayer", args -> getOfflinePlayer(args[0]))
+                .on("getPlayer", args -> onlinePlayers.get(args[0])));
+
+        setChestShopField("dataFolder", dataFolder);
+        setChestShopField("logger", logger);
+        setChestShopField("server", org.bukkit.Bukkit.getServer());
+
+        Properties.SHOP_INTERACTION_INTERVAL = 0;
+        Properties.TRANSACTION_METRICS = Boolean.parseBoolean(options.getOrDefault("stages", "false"));
+
+        NameManager.load();
+
+        economy = new FakeEconomy(getOption("latency", 0), TimeUnit.MICROSECONDS);
+        registerListeners();
+
+        createShops(getOption("shops", 50));
+        createPlayers(getOption("players", 100));
+    }
+
+    private static void setChestShopField(String name, Object value) throws ReflectiveOperationException {
+        Field field = ChestShop.class.getDeclaredField(name);
+        field.setAccessible(true);
+        field.set(null, value);
+    }
+
+    private OfflinePlayer getOfflinePlayer(Object nameOrUuid) {
+        UUID uuid = nameOrUuid instanceof UUID ? (UUID) nameOrUuid : UUID.nameUUIDFromBytes(("OfflinePlayer:" + nameOrUuid).getBytes());
+        Player online = onlinePlayers.get(uuid);
+
+        if (online != null) {
+            return online;
+        }
+
+        return Stub.of(OfflinePlayer.class)
+                .returns("getUniqueId", uuid)
+                .returns("getName", nameOrUuid instanceof String ? nameOrUuid : null)
+                .returns("isOnline", false)
+                .create();
+    }
+
+    private void registerListeners() {
+        Plugin plugin = Stub.of(Plugin.class)
+                .returns("getName", "ChestShop")
+                .returns("getLogger", logger)
+                .returns("getDescription", new PluginDescriptionFile("ChestShop", "benchmark", ChestShop.class.getName()))
+                .returns("isEnabled", true)
+                .create();
+
+        List<Listener> listeners = new ArrayList<>();
+
+        listeners.add(Properties.ALLOW_PARTIAL_TRANSACTIONS ? new PartialTransactionModule() : new AmountAndPriceChecker());
+        listeners.add(new CreativeModeIgnorer());
+        listeners.add(new ErrorMessageSender());
+        listeners.add(new PermissionChecker());
+        listeners.add(new PriceValidator());
+        listeners.add(new ShopValidator());
+        listeners.add(new SpamClickProtector());
+        listeners.add(new StockFittingChecker());
+
+        listeners.add(new EconomicModule());
+        listeners.add(new EmptyShopDeleter());
+        listeners.add(new ItemManager());
+        listeners.add(new TransactionLogger());
+        listeners.add(new TransactionMessageSender());
+
+        listeners.add(new DiscountModule());
+        listeners.add(new PriceRestrictionModule());
+        listeners.add(new ServerAccountCorrector());
+        listeners.add(new TaxModule(new TaxAccumulator(ChestShop.loadFile("taxes.yml"))));
+
+        listeners.add(economy);
+
+        for (Listener listener : listeners) {
+            EventPipeline.adopt(listener, plugin);
+        }
+    }
+
+    private void createShops(int amount) {
+        shops = new Block[amount];
+
+        for (int i = 0; i < amount; i++) {
+            Material item = ITEMS[i % ITEMS.length];
+            int x = (i % 100) * 3;
+            int z = (i / 100) * 3;
+
+            String owner;
+
+            if (i % ADMIN_SHOP_EVERY == ADMIN_SHOP_EVERY - 1) {
+                owner = Properties.ADMIN_SHOP_NAME;
+            } else {
+                owner = createAccount("Owner" + i).getShortName();
+
+                ItemStack[] contents = new ItemStack[13];
+                for (int slot = 0; slot < contents.length; slot++) {
+                    contents[slot] = new ItemStack(item, 64);
+                }
+                world.placeChest(x, 64, z, StubInventory.create(contents));
+            }
+
+            shops[i] = world.placeSign(x, 65, z, owner, "8", "B 10:S 8", MaterialUtil.getSignName(new ItemStack(item)));
+        }
+    }
+
+    private void createPlayers(int amount) {
+        players = new Player[amount];
+
+        for (int i = 0; i < amount; i++) {
+            Account account = createAccount("Player" + i);
+
+            ItemStack[] contents = new ItemStack[ITEMS.length * 2];
+            for (int slot = 0; slot < contents.length; slot++) {
+                contents[slot] = new ItemStack(ITEMS[slot % ITEMS.length], 64);
+            }
+
+            players[i] = createPlayer(account, StubInventory.createPlayerInventory(contents));
+            onlinePlayers.put(account.getUuid(), players[i]);
+        }
+    }
+
+    private Account createAccount(String name) {
+        UUID uuid = UUID.nameUUIDFromBytes(("OfflinePlayer:" + name).getBytes());
+        economy.createAccount(uuid, STARTING_BALANCE);
+
+        return NameManager.storeUsername(new PlayerDTO(uuid, name));
+    }
+
+    private Player createPlayer(Account account, org.bukkit.inventory.PlayerInventory inventory) {
+        return Stub.of(Player.class)
+                .returns("getName", account.getName())
+                .returns("getDisplayName", account.getName())
+                .returns("getUniqueId", account.getUuid())
+                .returns("getInventory", inventory)
+                .returns("getWorld", world.getWorld())
+                .returns("getGameMode", GameMode.SURVIVAL)
+                .returns("isOnline", true)
+                .returns("isOp", false)
+                .returns("isSneaking", false)
+                .returns("isInsideVehicle", false)
+                .returns("isPermissionSet", false)
+                .on("hasPermission", args -> hasPermission(args[0] instanceof String ? (String) args[0] : ((org.bukkit.permissions.Permission) args[0]).getName()))
+                .on("sendMessage", args -> {
+                    messages.increment();
+                    return null;
+                })
+                .returns("updateInventory", null)
+                .create();
+    }
+
+    private static boolean hasPermission(String node) {
+        String permission = node.toLowerCase();
+
+        return !permission.startsWith("chestshop.admin")
+                && !permission.startsWith("chestshop.mod")
+                && !permission.startsWith("chestshop.name")
+                && !permission.startsWith("chestshop.othername")
+                && !permission.startsWith("chestshop.discount.");
+    }
+
+    private void simulate(int clicks, Random random, Histogram latencies) {
+        for (int i = 0; i < clicks; i++) {
+            Player player = players[random.nextInt(players.length)];
+            Block shop = shops[random.nextInt(shops.length)];
+            Action action = random.nextBoolean() ? Action.RIGHT_CLICK_BLOCK : Action.LEFT_CLICK_BLOCK;
+
+            PlayerInteractEvent event = new PlayerInteractEvent(player, action, null, shop, BlockFace.NORTH);
+
+            long start = System.nanoTime();
+            PlayerInteract.onInteract(event);
+            latencies.record(System.nanoTime() - start);
+        }
+    }
+
+    private void report(int clicks, Random random) {
+        StageMetrics.reset();
+
+        long[] outcomesBefore = getOutcomes();
+        long failedBefore = MetricsRegistry.getCounter("chestshop_transactions_failed_total").sum();
+        long messagesBefore = messages.sum();
+
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        boolean allocationSupported = threads instanceof com.sun.management.ThreadMXBean;
+        long allocatedBefore = allocationSupported ? ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId()) : 0;
+
+        Histogram latencies = new Histogram();
+        long start = System.nanoTime();
+
+        simulate(clicks, random, latencies);
+
+        long elapsed = System.nanoTime() - start;
+        long allocated = allocationSupported ? ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId()) - allocatedBefore : -1;
+        double seconds = elapsed / 1e9;
+
+        System.out.printf("Clicks:      %d in %.2fs (%.0f clicks/s)%n", clicks, seconds, clicks / seconds);
+        System.out.printf("Latency:     p50=%.1fus p90=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus%n",
+                latencies.getPercentile(50) / 1000.0,
+                latencies.getPercentile(90) / 1000.0,
+                latencies.getPercentile(99) / 1000.0,
+                latencies.getPercentile(99.9) / 1000.0,
+                latencies.getMax() / 1000.0);
+
+        if (allocationSupported) {
+            System.out.printf("Allocations: %d bytes/click (%.1f MB/s)%n", allocated / clicks, allocated / seconds / (1024 * 1024));
+        } else {
+            System.out.println("Allocations: not supported by this JVM");
+        }
+
+        System.out.printf("Messages:    %d, failed transactions: %d%n",
+                messages.sum() - messagesBefore,
+                MetricsRegistry.getCounter("chestshop_transactions_failed_total").sum() - failedBefore);
+
+        long[] outcomes = getOutcomes();
+        for (TransactionOutcome outcome : TransactionOutcome.values()) {
+            long count = outcomes[outcome.ordinal()] - outcomesBefore[outcome.ordinal()];
+
+            if (count > 0) {
+                System.out.printf("  %-35s %d%n", outcome, count);
+            }
+        }
+
+        if (StageMetrics.isEnabled()) {
+            for (Map.Entry<String, Histogram> entry : StageMetrics.getHistograms().entrySet()) {
+                if (entry.getValue().getCount() > 0) {
+                    System.out.println("  " + StageMetrics.format(entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+    }
+
+    private static long[] getOutcomes() {
+        long[] outcomes = new long[TransactionOutcome.values().length];
+
+        for (TransactionOutcome outcome : TransactionOutcome.values()) {
+            outcomes[outcome.ordinal()] = MetricsRegistry.getCounter("chestshop_transactions_total", "outcome", outcome.name()).sum();
+        }
+
+        return outcomes;
+    }
+}
@@ -0,0 +1,62 @@
+package com.Acrobot.ChestShop.Benchmarks;
+
+import com.Acrobot.Breeze.Benchmarks.Stub;
+import com.Acrobot.Breeze.Benchmarks.StubInventory;
+import com.Acrobot.ChestShop.Signs.ShopIndex;
+import org.bukkit.Chunk;
+import org.bukkit.block.BlockState;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of indexing a chunk when it loads, with different numbers of signs and other tile entities in it
+ *
+ * @author Acrobot
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShopIndexBenchmark {
+    @Param({"0", "8", "64"})
+    public int shopSigns;
+
+    @Param({"0", "64"})
+    public int otherTileEntities;
+
+    private Chunk chunk;
+
+    @Setup
+    public void setUp() {
+        ShopWorld world = new ShopWorld("index");
+        BlockState[] tileEntities = new BlockState[shopSigns + otherTileEntities];
+
+        for (int i = 0; i < shopSigns; i++) {
+            tileEntities[i] = world.placeSign(-16 + i % 16, 64 + i / 16, -16, "Acrobot", "64", "B 10:S 5", "Diamond Sword").getState();
+        }
+
+        for (int i = 0; i < otherTileEntities; i++) {
+            int x = -16 + i % 16;
+            int y = 70 + i / 16;
+
+            tileEntities[shopSigns + i] = i % 2 == 0
+                    ? world.placeChest(x, y, -15, StubInventory.create()).getState()
+                    : world.placeSign(x, y, -15, "Welcome", "to", "the", "market").getState();
+        }
+
+        chunk = Stub.of(Chunk.class)
+                .returns("getWorld", world.getWorld())
+                .returns("getX", -1)
+                .returns("getZ", -1)
+                .returns("getTileEntities", tileEntities)
+                .create();
+    }
+
+    @Benchmark
+    public void indexChunk() {
+        ShopIndex.indexChunk(chunk);
+    }
+}
@@ -0,0 +1,140 @@
+package com.Acrobot.ChestShop.Benchmarks;
+
+import com.Acrobot.Breeze.Benchmarks.Stub;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Chest;
+import org.bukkit.block.Sign;
+import org.bukkit.inventory.Inventory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * World made of stub blocks, containing only the signs and chests placed in it
+ *
+ * @author Acrobot
+ */
+public class ShopWorld {
+    private final Map<Long, Block> blocks = new HashMap<>();
+    private final World world;
+
+    /**
+     * @param name Name of the world
+     */
+    public ShopWorld(String name) {
+        UUID uuid = UUID.nameUUIDFromBytes(name.getBytes());
+
+        world = Stub.of(World.class)
+                .returns("getName", name)
+                .returns("getUID", uuid)
+                .on("getBlockAt", args -> args.length == 1
+                        ? getBlock(((Location) args[0]).getBlockX(), ((Location) args[0]).getBlockY(), ((Location) args[0]).getBlockZ())
+                        : getBlock((Integer) args[0], (Integer) args[1], (Integer) args[2]))
+                .create();
+    }
+
+    /**
+     * @return The world
+     */
+    public World getWorld() {
+        return world;
+    }
+
+    /**
+     * Returns the block at the coordinates, which is air if nothing was placed there
+     *
+     * @return The block
+     */
+    public Block getBlock(int x, int y, int z) {
+        return blocks.computeIfAbsent(key(x, y, z), key -> createBlock(x, y, z, Material.AIR, block -> null));
+    }
+
+    /**
+     * Places a standing sign
+     *
+     * @param lines Lines of the sign
+     * @return The sign's block
+     */
+    public Block placeSign(int x, int y, int z, String... lines) {
+        return place(createBlock(x, y, z, Material.SIGN, block -> Stub.of(Sign.class)
+                .returns("getLines", lines)
+                .on("getLine", args -> lines[(Integer) args[0]])
+                .on("setLine", args -> lines[(Integer) args[0]] = (String) args[1])
+                .returns("update", true)
+                .returns("getData", new org.bukkit.material.Sign())
+                .on("getType", args -> block.getType())
+                .returns("getBlock", block)
+                .on("getLocation", args -> block.getLocation())
+                .returns("getWorld", world)
+                .returns("getX", x)
+                .returns("getY", y)
+                .returns("getZ", z)
+                .create()));
+    }
+
+    /**
+     * Places a chest
+     *
+     * @param inventory Inventory of the chest
+     * @return The chest's block
+     */
+    public Block placeChest(int x, int y, int z, Inventory inventory) {
+        return place(createBlock(x, y, z, Material.CHEST, block -> Stub.of(Chest.class)
+                .returns("getInventory", inventory)
+                .returns("getBlockInventory", inventory)
+                .returns("getSnapshotInventory", inventory)
+                .on("getType", args -> block.getType())
+                .returns("getBlock", block)
+                .on("getLocation", args -> block.getLocation())
+                .returns("getWorld", world)
+                .returns("getX", x)
+                .returns("getY", y)
+                .returns("getZ", z)
+                .create()));
+    }
+
+    private Block place(Block block) {
+        blocks.put(key(block.getX(), block.getY(), block.getZ()), block);
+        return block;
+    }
+
+    private Block createBlock(int x, int y, int z, Material type, Function<Block, BlockState> stateFactory) {
+        Material[] currentType = {type};
+        Block[] self = new Block[1];
+        BlockState[] state = new BlockState[1];
+
+        self[0] = Stub.of(Block.class)
+                .on("getType", args -> currentType[0])
+                .on("setType", args -> currentType[0] = (Material) args[0])
+                .on("getState", args -> state[0])
+                .returns("getBlockData", null)
+                .on("getLocation", args -> new Location(world, x, y, z))
+                .returns("getWorld", world)
+                .returns("getX", x)
+                .returns("getY", y)
+                .returns("getZ", z)
+                .on("getRelative", args -> {
+                    if (args[0] instanceof BlockFace) {
+                        BlockFace face = (BlockFace) args[0];
+                        int distance = args.length > 1 ? (Integer) args[1] : 1;
+                        return getBlock(x + face.getModX() * distance, y + face.getModY() * distance, z + face.getModZ() * distance);
+                    }
+                    return getBlock(x + (Integer) args[0], y + (Integer) args[1], z + (Integer) args[2]);
+                })
+                .create();
+
+        state[0] = stateFactory.apply(self[0]);
+        return self[0];
+    }
+
+    private static long key(int x, int y, int z) {
+        return ((long) x & 0x3FFFFFF) << 38 | ((long) z & 0x3FFFFFF) << 12 | (y & 0xFFF);
+    }
+}
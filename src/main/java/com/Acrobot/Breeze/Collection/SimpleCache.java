@@ -4,10 +4,14 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 
 public class SimpleCache<K, V> {
     private final LinkedHashMap<K, V> map;
 
+    private final LongAdder hits = new LongAdder(); // read by the metrics exporter on another thread
+    private final LongAdder misses = new LongAdder();
+
     public SimpleCache(int cacheSize) {
         map = new LinkedHashMap<K, V>(cacheSize * 10/9, 0.7f, true) {
             @Override
@@ -22,13 +26,23 @@ public class SimpleCache<K, V> {
     }
 
     public V get(K key) {
-        return map.get(key);
+        V value = map.get(key);
+
+        if (value != null) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+
+        return value;
     }
 
     public V get(K key, Callable<? extends V> loader) throws ExecutionException {
         if (contains(key)) {
+            hits.increment();
             return map.get(key);
         }
+        misses.increment();
         try {
             V value = loader.call();
             if (value != null) {
@@ -43,4 +57,16 @@ public class SimpleCache<K, V> {
     public boolean contains(K key) {
         return map.containsKey(key);
     }
+
+    public void clear() {
+        map.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
 }
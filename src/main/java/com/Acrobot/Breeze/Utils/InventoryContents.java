@@ -0,0 +1,71 @@
+package com.Acrobot.Breeze.Utils;
+
+import org.bukkit.inventory.ItemStack;
+
+/**
+ * Snapshot of an inventory's slots. Fingerprints of the items are computed
+ * when they are first needed and reused for all following comparisons.
+ *
+ * @author Acrobot
+ */
+public class InventoryContents {
+    private final ItemStack[] items;
+    private final long[] fingerprints;
+    private final boolean[] fingerprinted;
+
+    public InventoryContents(ItemStack... items) {
+        this.items = items;
+        this.fingerprints = new long[items.length];
+        this.fingerprinted = new boolean[items.length];
+    }
+
+    /**
+     * @return Number of slots
+     */
+    public int size() {
+        return items.length;
+    }
+
+    /**
+     * @param slot Slot
+     * @return Item in the slot, or null if the slot is empty
+     */
+    public ItemStack getItem(int slot) {
+        return items[slot];
+    }
+
+    /**
+     * Checks if the item in the slot is equal to the other item, ignoring their amount
+     *
+     * @param slot        Slot
+     * @param item        Item to compare with
+     * @param fingerprint Fingerprint of the item, see {@link MaterialUtil#getFingerprint(ItemStack)}
+     * @return Are they equal?
+     */
+    public boolean isSimilar(int slot, ItemStack item, long fingerprint) {
+        ItemStack slotItem = items[slot];
+
+        if (slotItem == null || item == null) {
+            return slotItem == item;
+        }
+
+        if (!MaterialUtil.haveSameShape(slotItem, item)) {
+            return false;
+        }
+
+        if (slotItem.hasItemMeta() && getFingerprint(slot) != fingerprint) {
+            return false;
+        }
+
+        return MaterialUtil.equals(slotItem, item);
+    }
+
+    private long getFingerprint(int slot) {
+        if (!fingerprinted[slot]) {
+            fingerprints[slot] = MaterialUtil.getFingerprint(items[slot]);
+            fingerprinted[slot] = true;
+        }
+
+        return fingerprints[slot];
+    }
+}
@@ -16,7 +16,13 @@ import org.bukkit.inventory.ItemStack;
 public class InventoryUtil {
     private static Boolean legacyContents = null;
 
-    private static ItemStack[] getStorageContents(Inventory inventory) {
+    /**
+     * Returns the storage contents of the inventory, or all contents on servers which don't know about storage contents
+     *
+     * @param inventory inventory
+     * @return Storage contents
+     */
+    public static ItemStack[] getStorageContents(Inventory inventory) {
         if (legacyContents == null) {
             try {
                 inventory.getStorageContents();
@@ -29,6 +35,16 @@ public class InventoryUtil {
         return legacyContents ? inventory.getContents() : inventory.getStorageContents();
     }
 
+    /**
+     * Checks if the inventory holds an unlimited amount of every item, like the inventory of admin shops
+     *
+     * @param inventory inventory
+     * @return Is the inventory unlimited?
+     */
+    public static boolean isUnlimited(Inventory inventory) {
+        return inventory.getType() == null && inventory.getMaxStackSize() == Integer.MAX_VALUE;
+    }
+
     /**
      * Returns the amount of the item inside the inventory
      *
@@ -46,10 +62,11 @@ public class InventoryUtil {
         }
 
         HashMap<Integer, ? extends ItemStack> items = inventory.all(item.getType());
+        long fingerprint = MaterialUtil.getFingerprint(item);
         int itemAmount = 0;
 
         for (ItemStack iStack : items.values()) {
-            if (!MaterialUtil.equals(iStack, item)) {
+            if (!MaterialUtil.equals(iStack, item, fingerprint)) {
                 continue;
             }
 
@@ -100,6 +117,10 @@ public class InventoryUtil {
      * @return Does the inventory contain stock of this type?
      */
     public static boolean hasItems(ItemStack[] items, Inventory inventory) {
+        if (isUnlimited(inventory)) {
+            return true;
+        }
+
         ItemStack[] mergedItems = mergeSimilarStacks(items);
         for (ItemStack item : mergedItems) {
             if (getAmount(item, inventory) < item.getAmount()) {
@@ -118,9 +139,15 @@ public class InventoryUtil {
      * @return Do the items fit inside the inventory?
      */
     public static boolean fits(ItemStack[] items, Inventory inventory) {
+        if (inventory.getMaxStackSize() == Integer.MAX_VALUE) {
+            return true;
+        }
+
         ItemStack[] mergedItems = InventoryUtil.mergeSimilarStacks(items);
+        InventoryContents contents = new InventoryContents(getStorageContents(inventory));
+
         for (ItemStack item : mergedItems) {
-            if (!InventoryUtil.fits(item, inventory)) {
+            if (!fits(item, contents)) {
                 return false;
             }
         }
@@ -136,23 +163,30 @@ public class InventoryUtil {
      * @return Does item fit inside inventory?
      */
     public static boolean fits(ItemStack item, Inventory inventory) {
-        int left = item.getAmount();
-
         if (inventory.getMaxStackSize() == Integer.MAX_VALUE) {
             return true;
         }
 
-        for (ItemStack iStack : getStorageContents(inventory)) {
+        return fits(item, new InventoryContents(getStorageContents(inventory)));
+    }
+
+    private static boolean fits(ItemStack item, InventoryContents contents) {
+        int left = item.getAmount();
+        long fingerprint = MaterialUtil.getFingerprint(item);
+
+        for (int slot = 0; slot < contents.size(); slot++) {
             if (left <= 0) {
                 return true;
             }
 
+            ItemStack iStack = contents.getItem(slot);
+
             if (MaterialUtil.isEmpty(iStack)) {
                 left -= getMaxStackSize(item);
                 continue;
             }
 
-            if (!MaterialUtil.equals(iStack, item)) {
+            if (!contents.isSimilar(slot, item, fingerprint)) {
                 continue;
             }
 
@@ -171,7 +205,7 @@ public class InventoryUtil {
      * @return Number of leftover items
      */
     public static int add(ItemStack item, Inventory inventory, int maxStackSize) {
-        if (item.getAmount() < 1) {
+        if (item.getAmount() < 1 || isUnlimited(inventory)) {
             return 0;
         }
 
@@ -184,9 +218,11 @@ public class InventoryUtil {
 
     private static int addManually(ItemStack item, Inventory inventory, int maxStackSize) {
         int amountLeft = item.getAmount();
+        InventoryContents contents = new InventoryContents(getStorageContents(inventory));
+        long fingerprint = MaterialUtil.getFingerprint(item);
 
-        for (int currentSlot = 0; currentSlot < effectiveSize(inventory) && amountLeft > 0; currentSlot++) {
-            ItemStack currentItem = inventory.getItem(currentSlot);
+        for (int currentSlot = 0; currentSlot < contents.size() && amountLeft > 0; currentSlot++) {
+            ItemStack currentItem = contents.getItem(currentSlot);
 
             if (MaterialUtil.isEmpty(currentItem)) {
                 currentItem = new ItemStack(item);
@@ -194,7 +230,7 @@ public class InventoryUtil {
                 inventory.setItem(currentSlot, currentItem);
 
                 amountLeft -= currentItem.getAmount();
-            } else if (currentItem.getAmount() < maxStackSize && MaterialUtil.equals(currentItem, item)) {
+            } else if (currentItem.getAmount() < maxStackSize && contents.isSimilar(currentSlot, item, fingerprint)) {
                 int neededToAdd = Math.min(maxStackSize - currentItem.getAmount(), amountLeft);
 
                 currentItem.setAmount(currentItem.getAmount() + neededToAdd);
@@ -205,11 +241,6 @@ public class InventoryUtil {
         return amountLeft;
     }
 
-    // Don't use the armor slots or extra slots
-    private static int effectiveSize(Inventory inventory) {
-        return getStorageContents(inventory).length;
-    }
-
     /**
      * Adds an item to the inventor
      *
@@ -218,6 +249,10 @@ public class InventoryUtil {
      * @return Number of leftover items
      */
     public static int add(ItemStack item, Inventory inventory) {
+        if (isUnlimited(inventory)) {
+            return 0;
+        }
+
         Map<Integer, ItemStack> leftovers = inventory.addItem(item.clone()); // item needs to be cloned as cb changes the amount of the stack size
 
         if (!leftovers.isEmpty()) {
@@ -243,6 +278,10 @@ public class InventoryUtil {
      * @return Number of items that couldn't be removed
      */
     public static int remove(ItemStack item, Inventory inventory) {
+        if (isUnlimited(inventory)) {
+            return 0;
+        }
+
         Map<Integer, ItemStack> leftovers = inventory.removeItem(item);
 
         if (!leftovers.isEmpty()) {
@@ -254,11 +293,13 @@ public class InventoryUtil {
 
     private static int removeManually(ItemStack item, Inventory inventory) {
         int amountLeft = item.getAmount();
+        InventoryContents contents = new InventoryContents(getStorageContents(inventory)); // storage contents don't include the armor slots or extra slots
+        long fingerprint = MaterialUtil.getFingerprint(item);
 
-        for (int currentSlot = 0; currentSlot < effectiveSize(inventory) && amountLeft > 0; currentSlot++) {
-            ItemStack currentItem = inventory.getItem(currentSlot);
+        for (int currentSlot = 0; currentSlot < contents.size() && amountLeft > 0; currentSlot++) {
+            ItemStack currentItem = contents.getItem(currentSlot);
 
-            if (currentItem != null && MaterialUtil.equals(currentItem, item)) {
+            if (currentItem != null && contents.isSimilar(currentSlot, item, fingerprint)) {
                 int neededToRemove = Math.min(currentItem.getAmount(), amountLeft);
 
                 currentItem.setAmount(currentItem.getAmount() - neededToRemove);
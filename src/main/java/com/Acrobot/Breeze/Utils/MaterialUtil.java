@@ -2,6 +2,7 @@ package com.Acrobot.Breeze.Utils;
 
 import com.Acrobot.Breeze.Collection.SimpleCache;
 import com.Acrobot.ChestShop.ChestShop;
+import com.Acrobot.ChestShop.Configuration.MessageTemplate;
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.google.common.collect.ImmutableMap;
 import de.themoep.ShowItem.api.ShowItem;
@@ -15,15 +16,21 @@ import org.bukkit.inventory.meta.Damageable;
 import org.bukkit.inventory.meta.ItemMeta;
 import org.bukkit.plugin.Plugin;
 import org.json.simple.JSONObject;
+import org.json.simple.JSONValue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.logging.Level;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
-import java.util.stream.Collectors;
 
 import static com.Acrobot.Breeze.Utils.StringUtil.getMinecraftCharWidth;
 import static com.Acrobot.Breeze.Utils.StringUtil.getMinecraftStringWidth;
@@ -43,9 +50,26 @@ public class MaterialUtil {
     @Deprecated
     public static final short MAXIMUM_SIGN_LETTERS = 15;
     // 15 dashes fit on one sign line with the default resource pack:
-    public static final int MAXIMUM_SIGN_WIDTH = (short) getMinecraftStringWidth("---------------");
+    public static final int MAXIMUM_SIGN_WIDTH = 15 * getMinecraftCharWidth('-');
 
     private static final SimpleCache<String, Material> MATERIAL_CACHE = new SimpleCache<>(Properties.CACHE_SIZE);
+    private static final EnumParser<Material> MATERIAL_PARSER = new EnumParser<>(Material.class);
+    private static final Map<Material, String> SIGN_NAMES = Collections.synchronizedMap(new EnumMap<>(Material.class));
+    private static final SimpleCache<NameKey, String> NAME_CACHE = new SimpleCache<>(Properties.CACHE_SIZE);
+
+    /**
+     * @return The cache of parsed material names
+     */
+    public static SimpleCache<String, Material> getMaterialCache() {
+        return MATERIAL_CACHE;
+    }
+
+    /**
+     * @return The cache of item names that were checked to result in the same item
+     */
+    public static SimpleCache<?, String> getNameCache() {
+        return NAME_CACHE;
+    }
 
     /**
      * Checks if the itemStack is empty or null
@@ -81,6 +105,78 @@ public class MaterialUtil {
                 && one.getItemMeta().serialize().equals(two.getItemMeta().serialize());
     }
 
+    /**
+     * Checks if the itemStacks are equal, ignoring their amount.
+     * The fingerprint of the second item is compared before the full check,
+     * so it's cheaper to compare many items with the same one.
+     *
+     * @param one            first itemStack
+     * @param two            second itemStack
+     * @param twoFingerprint fingerprint of the second itemStack, see {@link #getFingerprint(ItemStack)}
+     * @return Are they equal?
+     */
+    public static boolean equals(ItemStack one, ItemStack two, long twoFingerprint) {
+        if (one == null || two == null) {
+            return one == two;
+        }
+
+        if (!haveSameShape(one, two)) {
+            return false;
+        }
+
+        if (one.hasItemMeta() && getFingerprint(one) != twoFingerprint) {
+            return false;
+        }
+
+        return equals(one, two);
+    }
+
+    /**
+     * Checks the properties of the items which can be read without copying their meta
+     *
+     * @param one first itemStack
+     * @param two second itemStack
+     * @return Can the items be equal?
+     */
+    static boolean haveSameShape(ItemStack one, ItemStack two) {
+        return one.getType() == two.getType()
+                && one.getDurability() == two.getDurability()
+                && one.hasItemMeta() == two.hasItemMeta();
+    }
+
+    /**
+     * Computes the item's fingerprint, ignoring its amount.
+     * Items which are equal according to {@link #equals(ItemStack, ItemStack)} always have the same fingerprint,
+     * so items with different fingerprints are different. The fingerprint is only valid while the server is running.
+     *
+     * @param item Item
+     * @return The item's fingerprint
+     */
+    public static long getFingerprint(ItemStack item) {
+        if (item == null) {
+            return 0;
+        }
+
+        long fingerprint = (long) item.getType().ordinal() << 48 | (item.getDurability() & 0xFFFFL) << 32;
+
+        if (!item.hasItemMeta()) {
+            return fingerprint;
+        }
+
+        ItemMeta meta = item.getItemMeta();
+        int metaHash;
+
+        if (meta instanceof BookMeta) {
+            // Pages might change when serialising (See SPIGOT-3206), so they can't be hashed
+            BookMeta book = (BookMeta) meta;
+            metaHash = Objects.hash(book.getTitle(), book.getAuthor());
+        } else {
+            metaHash = meta.hashCode();
+        }
+
+        return fingerprint | (metaHash & 0xFFFFFFFFL);
+    }
+
     /**
      * Gives you a Material from a String (doesn't have to be fully typed in)
      *
@@ -88,7 +184,7 @@ public class MaterialUtil {
      * @return Material found
      */
     public static Material getMaterial(String name) {
-        String formatted = name.replaceAll("([a-z])([A-Z1-9])", "$1_$2").replace(' ', '_').toUpperCase();
+        String formatted = separateWords(name).replace(' ', '_').toUpperCase();
 
         Material material = MATERIAL_CACHE.get(formatted);
         if (material != null) {
@@ -102,7 +198,7 @@ public class MaterialUtil {
             return material;
         }
 
-        material = new EnumParser<Material>().parse(name, Material.values());
+        material = MATERIAL_PARSER.parse(name);
         if (material != null) {
             MATERIAL_CACHE.put(formatted, material);
         }
@@ -158,7 +254,17 @@ public class MaterialUtil {
      * @return ItemStack's name
      */
     public static String getSignName(ItemStack itemStack) {
-        return getName(itemStack, MAXIMUM_SIGN_WIDTH);
+        if (itemStack.getDurability() != 0 || itemStack.hasItemMeta()) {
+            return getName(itemStack, MAXIMUM_SIGN_WIDTH);
+        }
+
+        String signName = SIGN_NAMES.get(itemStack.getType());
+        if (signName == null) {
+            signName = getName(itemStack, MAXIMUM_SIGN_WIDTH);
+            SIGN_NAMES.put(itemStack.getType(), signName);
+        }
+
+        return signName;
     }
 
     /**
@@ -169,6 +275,18 @@ public class MaterialUtil {
      * @return ItemStack's name
      */
     public static String getName(ItemStack itemStack, int maxWidth) {
+        NameKey key = new NameKey(itemStack, maxWidth);
+        String code = NAME_CACHE.get(key);
+
+        if (code == null) {
+            code = createName(itemStack, maxWidth);
+            NAME_CACHE.put(key.withCopiedItem(), code);
+        }
+
+        return code;
+    }
+
+    private static String createName(ItemStack itemStack, int maxWidth) {
         String alias = Odd.getAlias(itemStack);
         String itemName = alias != null ? alias : itemStack.getType().toString();
 
@@ -183,10 +301,11 @@ public class MaterialUtil {
         }
 
         String code = StringUtil.capitalizeFirstLetter(itemName, '_');
-        int codeWidth = getMinecraftStringWidth(code + durability + metaData);
+        int nameWidth = getMinecraftStringWidth(code);
+        int codeWidth = nameWidth + getMinecraftStringWidth(durability) + getMinecraftStringWidth(metaData);
         if (maxWidth > 0 && codeWidth > maxWidth) {
             int exceeding = codeWidth - maxWidth;
-            code = getShortenedName(code, getMinecraftStringWidth(code) - exceeding);
+            code = getShortenedName(code, nameWidth - exceeding);
         }
 
         code += durability + metaData;
@@ -214,34 +333,39 @@ public class MaterialUtil {
             return itemName;
         }
         String[] itemParts = itemName.split(" ");
-        itemName = String.join("", itemParts);
-        width = getMinecraftStringWidth(itemName);
+        int[] lengths = new int[itemParts.length];
+        int[] widths = new int[itemParts.length];
+        width = 0;
+        for (int i = 0; i < itemParts.length; i++) {
+            lengths[i] = itemParts[i].length();
+            widths[i] = getMinecraftStringWidth(itemParts[i]);
+            width += widths[i];
+        }
         if (width <= maxWidth) {
-            return itemName;
+            return String.join("", itemParts);
         }
         int exceeding = width - maxWidth;
         int shortestIndex = 0;
         int longestIndex = 0;
         for (int i = 0; i < itemParts.length; i++) {
-            if (getMinecraftStringWidth(itemParts[longestIndex]) < getMinecraftStringWidth(itemParts[i])) {
+            if (widths[longestIndex] < widths[i]) {
                 longestIndex = i;
             }
-            if (getMinecraftStringWidth(itemParts[shortestIndex]) > getMinecraftStringWidth(itemParts[i])) {
+            if (widths[shortestIndex] > widths[i]) {
                 shortestIndex = i;
             }
         }
-        int shortestWidth = getMinecraftStringWidth(itemParts[shortestIndex]);
-        int longestWidth = getMinecraftStringWidth(itemParts[longestIndex]);
+        int shortestWidth = widths[shortestIndex];
+        int longestWidth = widths[longestIndex];
         int remove = longestWidth - shortestWidth;
         while (remove > 0 && exceeding > 0) {
-            int endWidth = getMinecraftCharWidth(itemParts[longestIndex].charAt(itemParts[longestIndex].length() - 1));
-            itemParts[longestIndex] = itemParts[longestIndex].substring(0, itemParts[longestIndex].length() - 1);
+            int endWidth = removeLastChar(itemParts, lengths, widths, longestIndex);
             remove -= endWidth;
             exceeding -= endWidth;
         }
 
         for (int i = itemParts.length - 1; i >= 0 && exceeding > 0; i--) {
-            int partWidth = getMinecraftStringWidth(itemParts[i]);
+            int partWidth = widths[i];
 
             if (partWidth > shortestWidth) {
                 remove = partWidth - shortestWidth;
@@ -252,8 +376,7 @@ public class MaterialUtil {
             }
 
             while (remove > 0) {
-                int endWidth = getMinecraftCharWidth(itemParts[i].charAt(itemParts[i].length() - 1));
-                itemParts[i] = itemParts[i].substring(0, itemParts[i].length() - 1);
+                int endWidth = removeLastChar(itemParts, lengths, widths, i);
                 remove -= endWidth;
                 exceeding -= endWidth;
             }
@@ -261,12 +384,26 @@ public class MaterialUtil {
 
         while (exceeding > 0) {
             for (int i = itemParts.length - 1; i >= 0 && exceeding > 0; i--) {
-                int endWidth = getMinecraftCharWidth(itemParts[i].charAt(itemParts[i].length() - 1));
-                itemParts[i] = itemParts[i].substring(0, itemParts[i].length() - 1);
-                exceeding -= endWidth;
+                exceeding -= removeLastChar(itemParts, lengths, widths, i);
             }
         }
-        return String.join("", itemParts);
+
+        StringBuilder shortenedName = new StringBuilder(maxWidth);
+        for (int i = 0; i < itemParts.length; i++) {
+            shortenedName.append(itemParts[i], 0, lengths[i]);
+        }
+        return shortenedName.toString();
+    }
+
+    /**
+     * Removes the last character of a name part, without creating a new string
+     *
+     * @return The width of the removed character
+     */
+    private static int removeLastChar(String[] parts, int[] lengths, int[] widths, int index) {
+        int endWidth = getMinecraftCharWidth(parts[index].charAt(--lengths[index]));
+        widths[index] -= endWidth;
+        return endWidth;
     }
 
     /**
@@ -349,38 +486,220 @@ public class MaterialUtil {
         return Metadata.getFromCode(group);
     }
 
+    /**
+     * Separates camel-cased words with an underscore, e.g. "DiamondSword" becomes "Diamond_Sword"
+     *
+     * @param name Name to separate
+     * @return Separated name
+     */
+    private static String separateWords(String name) {
+        StringBuilder separated = null;
+
+        for (int i = 1; i < name.length(); i++) {
+            char previous = name.charAt(i - 1);
+            char current = name.charAt(i);
+
+            if (previous >= 'a' && previous <= 'z' && (current >= 'A' && current <= 'Z' || current >= '1' && current <= '9')) {
+                if (separated == null) {
+                    separated = new StringBuilder(name.length() + 4).append(name, 0, i);
+                }
+                separated.append('_');
+            }
+
+            if (separated != null) {
+                separated.append(current);
+            }
+        }
+
+        return separated != null ? separated.toString() : name;
+    }
+
+    /**
+     * Splits the name at spaces and underscores, dropping trailing empty parts like {@link String#split(String)}
+     */
+    private static String[] splitWords(String name) {
+        List<String> parts = new ArrayList<>();
+        int start = 0;
+
+        for (int i = 0; i <= name.length(); i++) {
+            if (i == name.length() || name.charAt(i) == ' ' || name.charAt(i) == '_') {
+                parts.add(name.substring(start, i));
+                start = i + 1;
+            }
+        }
+
+        int size = parts.size();
+        while (size > 1 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+
+        if (size == 1 && parts.get(0).isEmpty() && !name.isEmpty()) {
+            size = 0;
+        }
+
+        return parts.subList(0, size).toArray(new String[size]);
+    }
+
+    /**
+     * Finds enum constants by their abbreviated names, e.g. "DIAMOND_SW" or "Dia Sw".
+     * The names and their parts are indexed once, so that a lookup only searches the matching ranges.
+     */
     private static class EnumParser<E extends Enum<E>> {
-        private E parse(String name, E[] values) {
-            try {
-                return E.valueOf(values[0].getDeclaringClass(), name.toUpperCase());
-            } catch (IllegalArgumentException exception) {
-                E currentEnum = null;
-                String[] typeParts = name.replaceAll("([a-z])([A-Z1-9])", "$1_$2").toUpperCase().split("[ _]");
-                int length = Short.MAX_VALUE;
-                for (E e : values) {
-                    String enumName = e.name();
-                    if (enumName.length() < length && enumName.startsWith(name)) {
-                        length = (short) enumName.length();
-                        currentEnum = e;
-                    } else if (typeParts.length > 1) {
-                        String[] nameParts = enumName.split("_");
-                        if (typeParts.length == nameParts.length) {
-                            boolean matched = true;
-                            for (int i = 0; i < nameParts.length; i++) {
-                                if (!nameParts[i].startsWith(typeParts[i])) {
-                                    matched = false;
-                                    break;
-                                }
-                            }
-                            if (matched) {
-                                currentEnum = e;
-                                break;
-                            }
-                        }
+        private final E[] values;
+        private final Map<String, E> byName = new HashMap<>();
+        private final SortedIndex names;
+        private final Map<Integer, SortedIndex[]> partsByCount = new HashMap<>();
+
+        private EnumParser(Class<E> type) {
+            values = type.getEnumConstants();
+
+            Map<String, BitSet> nameOrdinals = new HashMap<>();
+            Map<Integer, List<Map<String, BitSet>>> partOrdinals = new HashMap<>();
+
+            for (E value : values) {
+                String name = value.name();
+                byName.put(name, value);
+                nameOrdinals.computeIfAbsent(name, n -> new BitSet()).set(value.ordinal());
+
+                String[] parts = name.split("_");
+                List<Map<String, BitSet>> positions = partOrdinals.computeIfAbsent(parts.length, n -> new ArrayList<>());
+                for (int i = 0; i < parts.length; i++) {
+                    if (positions.size() <= i) {
+                        positions.add(new HashMap<>());
+                    }
+                    positions.get(i).computeIfAbsent(parts[i], p -> new BitSet()).set(value.ordinal());
+                }
+            }
+
+            names = new SortedIndex(nameOrdinals);
+            for (Map.Entry<Integer, List<Map<String, BitSet>>> entry : partOrdinals.entrySet()) {
+                SortedIndex[] positions = new SortedIndex[entry.getKey()];
+                for (int i = 0; i < positions.length; i++) {
+                    positions[i] = new SortedIndex(entry.getValue().get(i));
+                }
+                partsByCount.put(entry.getKey(), positions);
+            }
+        }
+
+        private E parse(String name) {
+            E exact = byName.get(name.toUpperCase());
+            if (exact != null) {
+                return exact;
+            }
+
+            BitSet prefixed = names.findPrefixed(name);
+            BitSet partsMatched = null;
+
+            String[] typeParts = splitWords(separateWords(name).toUpperCase());
+            if (typeParts.length > 1) {
+                SortedIndex[] positions = partsByCount.get(typeParts.length);
+                partsMatched = new BitSet();
+
+                if (positions != null) {
+                    partsMatched = positions[0].findPrefixed(typeParts[0]);
+                    for (int i = 1; i < typeParts.length && !partsMatched.isEmpty(); i++) {
+                        partsMatched.and(positions[i].findPrefixed(typeParts[i]));
                     }
                 }
-                return currentEnum;
             }
+
+            BitSet candidates = (BitSet) prefixed.clone();
+            if (partsMatched != null) {
+                candidates.or(partsMatched);
+            }
+
+            // Same outcome as checking all constants in order: the shortest name starting with the
+            // given name wins, unless a constant whose parts all match comes first in the enum
+            E currentEnum = null;
+            int length = Short.MAX_VALUE;
+            for (int i = candidates.nextSetBit(0); i >= 0; i = candidates.nextSetBit(i + 1)) {
+                E e = values[i];
+                if (e.name().length() < length && prefixed.get(i)) {
+                    length = e.name().length();
+                    currentEnum = e;
+                } else if (partsMatched != null && partsMatched.get(i)) {
+                    return e;
+                }
+            }
+            return currentEnum;
+        }
+    }
+
+    /**
+     * Sorted strings with the ordinals of the enum constants they belong to
+     */
+    private static class SortedIndex {
+        private final String[] keys;
+        private final BitSet[] ordinals;
+
+        private SortedIndex(Map<String, BitSet> entries) {
+            keys = entries.keySet().toArray(new String[0]);
+            Arrays.sort(keys);
+
+            ordinals = new BitSet[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                ordinals[i] = entries.get(keys[i]);
+            }
+        }
+
+        private BitSet findPrefixed(String prefix) {
+            BitSet found = new BitSet();
+
+            int index = Arrays.binarySearch(keys, prefix);
+            if (index < 0) {
+                index = -index - 1;
+            }
+
+            for (; index < keys.length && keys[index].startsWith(prefix); index++) {
+                found.or(ordinals[index]);
+            }
+
+            return found;
+        }
+    }
+
+    /**
+     * Identifies an item, regardless of its amount, together with the width its name was generated for
+     */
+    private static class NameKey {
+        private final ItemStack item;
+        private final int maxWidth;
+        private final int hash;
+
+        private NameKey(ItemStack item, int maxWidth) {
+            this(item, maxWidth, hash(item, maxWidth));
+        }
+
+        private NameKey(ItemStack item, int maxWidth, int hash) {
+            this.item = item;
+            this.maxWidth = maxWidth;
+            this.hash = hash;
+        }
+
+        private static int hash(ItemStack item, int maxWidth) {
+            return Long.hashCode(getFingerprint(item)) * 31 + maxWidth;
+        }
+
+        /**
+         * @return Key with a copy of the item, so that later changes to the item don't affect the key
+         */
+        private NameKey withCopiedItem() {
+            return new NameKey(item.clone(), maxWidth, hash);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof NameKey)) {
+                return false;
+            }
+
+            NameKey other = (NameKey) o;
+            return hash == other.hash && maxWidth == other.maxWidth && item.isSimilar(other.item);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
         }
     }
 
@@ -455,10 +774,18 @@ public class MaterialUtil {
          */
         public static void initialize() {
             isInitialized = true;
+            SIGN_NAMES.clear(); // names might now come from OddItem's aliases
+            NAME_CACHE.clear();
         }
     }
 
     public static class Show {
+        private static final String ITEM_PLACEHOLDER = "item";
+        private static final String ITEM_SEPARATOR = "," + new JSONObject(ImmutableMap.of("text", " ")).toJSONString() + ", ";
+
+        private static final SimpleCache<ItemJsonKey, String> ITEM_JSON_CACHE = new SimpleCache<>(Properties.CACHE_SIZE);
+        private static final SimpleCache<MessageTemplate, MessageTemplate[]> MESSAGE_PARTS_CACHE = new SimpleCache<>(Properties.CACHE_SIZE);
+
         private static ShowItem showItem = null;
 
         /**
@@ -468,6 +795,8 @@ public class MaterialUtil {
          */
         public static void initialize(Plugin plugin) {
             showItem = (ShowItem) plugin;
+            ITEM_JSON_CACHE.clear();
+            MESSAGE_PARTS_CACHE.clear();
         }
 
         /**
@@ -478,40 +807,140 @@ public class MaterialUtil {
          * @param stock   The items in stock
          */
         public static boolean sendMessage(Player player, String message, ItemStack[] stock) {
-            if (showItem == null) {
-                return false;
-            }
+            return showItem != null && sendMessage(player, MessageTemplate.compile(message, ITEM_PLACEHOLDER).split(ITEM_PLACEHOLDER), new String[1], stock);
+        }
 
-            List<String> itemJson = new ArrayList<>();
+        /**
+         * Send a message with hover info and icons.
+         * The template is only split at the item placeholders the first time it's sent.
+         *
+         * @param player   The player to send the message to
+         * @param template The message template
+         * @param values   Values of the template's placeholders, the item placeholder's value is ignored
+         * @param stock    The items in stock
+         */
+        public static boolean sendMessage(Player player, MessageTemplate template, String[] values, ItemStack[] stock) {
+            return showItem != null && sendMessage(player, getMessageParts(template), values, stock);
+        }
+
+        private static boolean sendMessage(Player player, MessageTemplate[] parts, String[] values, ItemStack[] stock) {
+            StringBuilder joinedItemJson = new StringBuilder();
             for (ItemStack item : InventoryUtil.mergeSimilarStacks(stock)) {
+                String itemJson;
+
                 try {
-                    itemJson.add(showItem.getItemConverter().createComponent(item, Level.FINE).toJsonString(player));
+                    itemJson = getItemJson(player, item);
                 } catch (Exception e) {
-                    ChestShop.getPlugin().getLogger().log(Level.WARNING, "Error while trying to send message '" + message + "' to player " + player.getName() + ": " + e.getMessage());
+                    ChestShop.getPlugin().getLogger().log(Level.WARNING, "Error while trying to send message '" + render(parts, values) + "' to player " + player.getName() + ": " + e.getMessage());
                     return false;
                 }
-            }
 
-            String joinedItemJson = itemJson.stream().collect(Collectors.joining("," + new JSONObject(ImmutableMap.of("text", " ")).toJSONString() + ", "));
+                if (joinedItemJson.length() > 0) {
+                    joinedItemJson.append(ITEM_SEPARATOR);
+                }
+                joinedItemJson.append(itemJson);
+            }
 
+            String itemSeparator = "," + joinedItemJson + ",";
             String prevColor = "";
-            List<String> parts = new ArrayList<>();
-            for (String s : message.split("%item")) {
-                parts.add(new JSONObject(ImmutableMap.of("text", prevColor + s)).toJSONString());
-                prevColor = ChatColor.getLastColors(s);
+
+            StringBuilder messageJson = new StringBuilder();
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) {
+                    messageJson.append(itemSeparator);
+                }
+
+                String text = parts[i].render(values);
+                messageJson.append("{\"text\":\"").append(JSONValue.escape(prevColor + text)).append("\"}");
+                prevColor = ChatColor.getLastColors(text);
             }
 
-            String messageJsonString = String.join("," + joinedItemJson + ",", parts);
+            showItem.tellRaw(player, messageJson.toString());
+            return true;
+        }
+
+        private static String getItemJson(Player player, ItemStack item) {
+            ItemJsonKey key = new ItemJsonKey(item, player.getLocale());
+            String json = ITEM_JSON_CACHE.get(key);
 
-            while (messageJsonString.startsWith(",")) {
-                messageJsonString = messageJsonString.substring(1);
+            if (json == null) {
+                json = showItem.getItemConverter().createComponent(item, Level.FINE).toJsonString(player);
+                ITEM_JSON_CACHE.put(key.withCopiedItem(), json);
             }
-            while (messageJsonString.endsWith(",")) {
-                messageJsonString = messageJsonString.substring(0, messageJsonString.length() - 1);
+
+            return json;
+        }
+
+        private static String render(MessageTemplate[] parts, String[] values) {
+            StringBuilder message = new StringBuilder();
+            for (int i = 0; i < parts.length; i++) {
+                if (i > 0) {
+                    message.append('%').append(ITEM_PLACEHOLDER);
+                }
+                message.append(parts[i].render(values));
             }
+            return message.toString();
+        }
 
-            showItem.tellRaw(player, messageJsonString);
-            return true;
+        /**
+         * Splits the template at the item placeholders, once for every template
+         *
+         * @param template The message template
+         * @return Templates of the text around the items
+         */
+        private static MessageTemplate[] getMessageParts(MessageTemplate template) {
+            MessageTemplate[] parts = MESSAGE_PARTS_CACHE.get(template);
+
+            if (parts == null) {
+                parts = template.split(ITEM_PLACEHOLDER);
+                MESSAGE_PARTS_CACHE.put(template, parts);
+            }
+
+            return parts;
+        }
+
+        /**
+         * Identifies an item together with its amount and the language it is shown in
+         */
+        private static class ItemJsonKey {
+            private final ItemStack item;
+            private final String locale;
+            private final int hash;
+
+            private ItemJsonKey(ItemStack item, String locale) {
+                this(item, locale, (Long.hashCode(getFingerprint(item)) * 31 + item.getAmount()) * 31 + Objects.hashCode(locale));
+            }
+
+            private ItemJsonKey(ItemStack item, String locale, int hash) {
+                this.item = item;
+                this.locale = locale;
+                this.hash = hash;
+            }
+
+            /**
+             * @return Key with a copy of the item, so that later changes to the item don't affect the key
+             */
+            private ItemJsonKey withCopiedItem() {
+                return new ItemJsonKey(item.clone(), locale, hash);
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (!(o instanceof ItemJsonKey)) {
+                    return false;
+                }
+
+                ItemJsonKey other = (ItemJsonKey) o;
+                return hash == other.hash
+                        && item.getAmount() == other.item.getAmount()
+                        && Objects.equals(locale, other.locale)
+                        && item.isSimilar(other.item);
+            }
+
+            @Override
+            public int hashCode() {
+                return hash;
+            }
         }
     }
 }
@@ -3,6 +3,7 @@ package com.Acrobot.Breeze.Utils;
 import org.apache.commons.lang.WordUtils;
 import org.bukkit.ChatColor;
 
+import java.util.Arrays;
 import java.util.Collection;
 
 /**
@@ -81,6 +82,19 @@ public class StringUtil {
     private static String characters = " !\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_'abcdefghijklmnopqrstuvwxyz{|}~¦ÇüéâäàåçêëèïîìÄÅÉæÆôöòûùÿÖÜø£Ø×áíóúñÑªº¿®¬½¼¡«»";
     private static int[] extraWidth = {4,2,5,6,6,6,6,3,5,5,5,6,2,6,2,6,6,6,6,6,6,6,6,6,6,6,2,2,5,6,5,6,7,6,6,6,6,6,6,6,6,4,6,6,6,6,6,6,6,6,6,6,6,6,6,6,6,6,6,4,6,4,6,6,3,6,6,6,6,6,5,6,6,2,6,5,3,6,6,6,6,6,6,6,4,6,6,6,6,6,6,5,2,5,7,6,6,6,6,6,6,6,6,6,6,6,6,4,6,3,6,6,6,6,6,6,6,6,6,6,6,6,6,6,6,6,4,6,6,3,6,6,6,6,6,6,6,7,6,6,6,2,6,6,8,9,9,6,6,6,8,8,6,8,8,8,8,8,6,6,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,6,9,9,9,5,9,9,8,7,7,8,7,8,8,8,7,8,8,7,9,9,6,7,7,7,7,7,9,6,7,8,7,6,6,9,7,6,7,1};
 
+    private static final int UNKNOWN_CHAR_WIDTH = 10;
+    private static final int[] charWidths = new int[256];
+
+    static {
+        Arrays.fill(charWidths, UNKNOWN_CHAR_WIDTH);
+
+        for (int i = characters.length() - 1; i >= 0; i--) {
+            charWidths[characters.charAt(i)] = extraWidth[i];
+        }
+
+        charWidths[ChatColor.COLOR_CHAR] = 0;
+    }
+
     /**
      * Get the width that a character is displayed with in the default resource pack.
      * This relies on a hardcoded character to width mapping and might not be precise in places.
@@ -88,15 +102,7 @@ public class StringUtil {
      * @return The width of the character (will return 10 for characters that we don't know the width of)
      */
     public static int getMinecraftCharWidth(char c) {
-        if (c != ChatColor.COLOR_CHAR) {
-            int index = characters.indexOf(c);
-            if (index > -1) {
-                return extraWidth[index];
-            } else {
-                return 10;
-            }
-        }
-        return 0;
+        return c < charWidths.length ? charWidths[c] : UNKNOWN_CHAR_WIDTH;
     }
 
     /**
@@ -106,9 +112,20 @@ public class StringUtil {
      * @return The width of the string
      */
     public static int getMinecraftStringWidth(String string) {
+        return getMinecraftStringWidth(string, 0, string.length());
+    }
+
+    /**
+     * Get the width that a part of a text is displayed with in the default resource pack.
+     * @param text  The text
+     * @param start Index of the first character
+     * @param end   Index after the last character
+     * @return The width of the characters from start to end
+     */
+    public static int getMinecraftStringWidth(CharSequence text, int start, int end) {
         int width = 0;
-        for (char c : string.toCharArray()) {
-            width += getMinecraftCharWidth(c);
+        for (int i = start; i < end; i++) {
+            width += getMinecraftCharWidth(text.charAt(i));
         }
         return width;
     }
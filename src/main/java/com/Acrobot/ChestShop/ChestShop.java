@@ -1,22 +1,29 @@
 package com.Acrobot.ChestShop;
 
 import com.Acrobot.Breeze.Configuration.Configuration;
+import com.Acrobot.Breeze.Utils.MaterialUtil;
 import com.Acrobot.ChestShop.Commands.Give;
 import com.Acrobot.ChestShop.Commands.ItemInfo;
+import com.Acrobot.ChestShop.Commands.Metrics;
 import com.Acrobot.ChestShop.Commands.Toggle;
 import com.Acrobot.ChestShop.Commands.Version;
 import com.Acrobot.ChestShop.Configuration.Messages;
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Database.Migrations;
+import com.Acrobot.ChestShop.Economy.TaxAccumulator;
+import com.Acrobot.ChestShop.Events.EventPipeline;
 import com.Acrobot.ChestShop.Listeners.Block.BlockPlace;
 import com.Acrobot.ChestShop.Listeners.Block.Break.ChestBreak;
 import com.Acrobot.ChestShop.Listeners.Block.Break.SignBreak;
+import com.Acrobot.ChestShop.Listeners.Block.ProtectionCacheInvalidator;
+import com.Acrobot.ChestShop.Listeners.Block.ShopIndexer;
 import com.Acrobot.ChestShop.Listeners.Block.SignCreate;
 import com.Acrobot.ChestShop.Listeners.Economy.ServerAccountCorrector;
 import com.Acrobot.ChestShop.Listeners.Economy.TaxModule;
 import com.Acrobot.ChestShop.Listeners.AuthMeChestShopListener;
 import com.Acrobot.ChestShop.Listeners.GarbageTextListener;
 import com.Acrobot.ChestShop.Listeners.Item.ItemMoveListener;
+import com.Acrobot.ChestShop.Listeners.Item.ShopStockUpdater;
 import com.Acrobot.ChestShop.Listeners.ItemInfoListener;
 import com.Acrobot.ChestShop.Listeners.Modules.DiscountModule;
 import com.Acrobot.ChestShop.Listeners.Modules.PriceRestrictionModule;
@@ -34,9 +41,13 @@ import com.Acrobot.ChestShop.Listeners.ShopRemoval.ShopRefundListener;
 import com.Acrobot.ChestShop.Listeners.ShopRemoval.ShopRemovalLogger;
 import com.Acrobot.ChestShop.Logging.FileFormatter;
 import com.Acrobot.ChestShop.Metadata.ItemDatabase;
+import com.Acrobot.ChestShop.Metrics.MetricsRegistry;
 import com.Acrobot.ChestShop.Signs.RestrictedSign;
+import com.Acrobot.ChestShop.Signs.ShopIndex;
+import com.Acrobot.ChestShop.Signs.ShopStock;
 import com.Acrobot.ChestShop.UUIDs.NameManager;
 import com.Acrobot.ChestShop.Updater.Updater;
+import com.Acrobot.ChestShop.Utils.IntervalTask;
 
 import org.apache.logging.log4j.Level;
 import org.apache.logging.log4j.LogManager;
@@ -49,6 +60,7 @@ import org.apache.logging.log4j.message.Message;
 
 import org.bukkit.Bukkit;
 import org.bukkit.Server;
+import org.bukkit.World;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -77,6 +89,8 @@ public class ChestShop extends JavaPlugin {
 
     private static File dataFolder;
     private static ItemDatabase itemDatabase;
+    private static TaxAccumulator taxAccumulator;
+    private DiscountModule discountModule;
 
     private static Logger logger;
     private FileHandler handler;
@@ -107,6 +121,7 @@ public class ChestShop extends JavaPlugin {
         registerCommand("csVersion", new Version(), Permission.ADMIN);
         registerCommand("csGive", new Give(), Permission.ADMIN);
         registerCommand("cstoggle", new Toggle(), Permission.NOTIFY_TOGGLE);
+        registerCommand("csmetrics", new Metrics(), Permission.ADMIN);
 
         loadConfig();
 
@@ -134,6 +149,7 @@ public class ChestShop extends JavaPlugin {
         }
 
         startStatistics();
+        startMetricsExport();
         startUpdater();
     }
 
@@ -147,6 +163,10 @@ public class ChestShop extends JavaPlugin {
     public void loadConfig() {
         Configuration.pairFileAndClass(loadFile("config.yml"), Properties.class);
         Configuration.pairFileAndClass(loadFile("local.yml"), Messages.class);
+        Messages.clearTemplates();
+        Security.clearAccessCache();
+        Permission.clearDecisions();
+        ShopStock.clear();
 
         NameManager.load();
 
@@ -263,6 +283,14 @@ public class ChestShop extends JavaPlugin {
     public void onDisable() {
         getServer().getScheduler().cancelTasks(this);
 
+        if (taxAccumulator != null) {
+            taxAccumulator.close();
+        }
+
+        OwnerNotificationAggregator.flush();
+
+        EventPipeline.clear();
+
         Toggle.clearToggledPlayers();
 
         if (handler != null) {
@@ -283,6 +311,12 @@ public class ChestShop extends JavaPlugin {
 
         registerModules();
 
+        registerEvent(new ShopIndexer());
+        registerEvent(new ProtectionCacheInvalidator());
+        for (World world : getServer().getWorlds()) {
+            ShopIndex.indexWorld(world);
+        }
+
         registerEvent(new SignBreak());
         registerEvent(new SignCreate());
         registerEvent(new ChestBreak());
@@ -293,6 +327,9 @@ public class ChestShop extends JavaPlugin {
         registerEvent(new PlayerInventory());
         registerEvent(new PlayerLeave());
         registerEvent(new PlayerTeleport());
+        registerEvent(new PlayerChangeWorld());
+
+        IntervalTask.schedule(this, () -> Properties.PERMISSION_CACHE_TIME, this::refreshPermissions);
 
         registerEvent(new ItemInfoListener());
         registerEvent(new GarbageTextListener());
@@ -307,6 +344,20 @@ public class ChestShop extends JavaPlugin {
         if (!Properties.TURN_OFF_HOPPER_PROTECTION) {
             registerEvent(new ItemMoveListener());
         }
+
+        registerEvent(new ShopStockUpdater());
+    }
+
+    /**
+     * Forgets the remembered permission and protection checks, so that changed permissions are seen
+     */
+    private void refreshPermissions() {
+        Permission.clearDecisions();
+        Security.clearAccessCache();
+
+        if (discountModule != null) {
+            discountModule.clearDiscounts();
+        }
     }
 
     private void registerShopRemovalEvents() {
@@ -359,10 +410,14 @@ public class ChestShop extends JavaPlugin {
         registerEvent(new ItemManager());
         registerEvent(new TransactionLogger());
         registerEvent(new TransactionMessageSender());
+
+        IntervalTask.schedule(this, () -> Properties.OWNER_NOTIFICATION_INTERVAL, OwnerNotificationAggregator::flush);
     }
 
     private void registerModules() {
-        registerEvent(new DiscountModule());
+        discountModule = new DiscountModule();
+        registerEvent(discountModule);
+
         registerEvent(new PriceRestrictionModule());
 
         registerEconomicalModules();
@@ -370,11 +425,16 @@ public class ChestShop extends JavaPlugin {
 
     private void registerEconomicalModules() {
         registerEvent(new ServerAccountCorrector());
-        registerEvent(new TaxModule());
+        taxAccumulator = new TaxAccumulator(loadFile("taxes.yml"));
+        registerEvent(new TaxModule(taxAccumulator));
+
+        IntervalTask.schedule(this, () -> Properties.TAX_DEPOSIT_INTERVAL, taxAccumulator::flush);
+        getServer().getScheduler().runTaskTimerAsynchronously(this, taxAccumulator::save, 100, 100);
     }
 
     public void registerEvent(Listener listener) {
         getServer().getPluginManager().registerEvents(listener, this);
+        EventPipeline.adopt(listener, this);
     }
 
     private void startStatistics() {
@@ -386,6 +446,29 @@ public class ChestShop extends JavaPlugin {
         new org.bstats.bukkit.MetricsLite(this);
     }
 
+    private void startMetricsExport() {
+        MetricsRegistry.registerCache("material", MaterialUtil.getMaterialCache());
+        MetricsRegistry.registerCache("item_name", MaterialUtil.getNameCache());
+        MetricsRegistry.registerGauge("chestshop_scheduler_pending_tasks",
+                () -> getServer().getScheduler().getPendingTasks().stream().filter(task -> task.getOwner() == this).count());
+
+        IntervalTask.schedule(this, () -> Properties.METRICS_EXPORT_INTERVAL, () -> {
+            if (Properties.METRICS_EXPORT_INTERVAL > 0) {
+                getServer().getScheduler().runTaskAsynchronously(this, this::exportMetrics);
+            }
+        });
+    }
+
+    private void exportMetrics() {
+        File file = new File(getDataFolder(), Properties.METRICS_EXPORT_FILE);
+
+        try {
+            MetricsRegistry.export(file);
+        } catch (IOException e) {
+            getLogger().log(java.util.logging.Level.WARNING, "Couldn't export the metrics to " + file.getName(), e);
+        }
+    }
+
     private static final int PROJECT_BUKKITDEV_ID = 31263;
 
     private void startUpdater() {
@@ -402,6 +485,10 @@ public class ChestShop extends JavaPlugin {
         return itemDatabase;
     }
 
+    public static TaxAccumulator getTaxAccumulator() {
+        return taxAccumulator;
+    }
+
     public static File getFolder() {
         return dataFolder;
     }
@@ -435,6 +522,13 @@ public class ChestShop extends JavaPlugin {
     }
 
     public static void callEvent(Event event) {
+        EventPipeline pipeline = EventPipeline.get(event.getClass());
+
+        if (pipeline != null) {
+            pipeline.call(event);
+            return;
+        }
+
         Bukkit.getPluginManager().callEvent(event);
     }
 }
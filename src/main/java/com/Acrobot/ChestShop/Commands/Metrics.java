@@ -0,0 +1,57 @@
+package com.Acrobot.ChestShop.Commands;
+
+import com.Acrobot.ChestShop.ChestShop;
+import com.Acrobot.ChestShop.Metrics.Histogram;
+import com.Acrobot.ChestShop.Metrics.StageMetrics;
+import org.bukkit.ChatColor;
+import org.bukkit.command.Command;
+import org.bukkit.command.CommandExecutor;
+import org.bukkit.command.CommandSender;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+import java.util.logging.Level;
+
+/**
+ * Shows how long the single stages of a transaction take
+ *
+ * @author Acrobot
+ */
+public class Metrics implements CommandExecutor {
+    public boolean onCommand(CommandSender sender, Command cmd, String label, String[] args) {
+        if (args.length > 0 && args[0].equalsIgnoreCase("reset")) {
+            StageMetrics.reset();
+
+            sender.sendMessage(ChatColor.DARK_GREEN + "The metrics were reset.");
+            return true;
+        }
+
+        if (args.length > 0 && args[0].equalsIgnoreCase("dump")) {
+            try {
+                File file = StageMetrics.dump(ChestShop.getFolder());
+                sender.sendMessage(ChatColor.DARK_GREEN + "The metrics were saved to " + file.getName());
+            } catch (IOException e) {
+                ChestShop.getBukkitLogger().log(Level.SEVERE, "Couldn't save the metrics", e);
+                sender.sendMessage(ChatColor.RED + "Couldn't save the metrics: " + e.getMessage());
+            }
+            return true;
+        }
+
+        if (args.length > 0) {
+            return false;
+        }
+
+        if (!StageMetrics.isEnabled()) {
+            sender.sendMessage(ChatColor.GRAY + "Transaction metrics are turned off in the config.");
+        }
+
+        for (Map.Entry<String, Histogram> entry : StageMetrics.getHistograms().entrySet()) {
+            if (entry.getValue().getCount() > 0) {
+                sender.sendMessage(ChatColor.GRAY + StageMetrics.format(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        return true;
+    }
+}
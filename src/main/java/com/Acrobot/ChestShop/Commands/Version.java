@@ -1,6 +1,7 @@
 package com.Acrobot.ChestShop.Commands;
 
 import com.Acrobot.ChestShop.ChestShop;
+import com.Acrobot.ChestShop.Listeners.Modules.PriceRestrictionModule;
 import org.bukkit.ChatColor;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
@@ -13,6 +14,7 @@ public class Version implements CommandExecutor {
     public boolean onCommand(CommandSender sender, Command cmd, String label, String[] args) {
         if (args.length > 0 && args[0].equals("reload")) {
             ChestShop.getPlugin().loadConfig();
+            PriceRestrictionModule.reload();
 
             sender.sendMessage(ChatColor.DARK_GREEN + "The config was reloaded.");
             return true;
@@ -0,0 +1,135 @@
+package com.Acrobot.ChestShop.Configuration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A message split into text and %placeholders once, so that it can be filled in with one StringBuilder
+ *
+ * @author Acrobot
+ */
+public class MessageTemplate {
+    private final String[] placeholders;
+    private final String[] texts;
+    private final int[] slots;
+    private final int textLength;
+
+    private MessageTemplate(String[] placeholders, String[] texts, int[] slots) {
+        this.placeholders = placeholders;
+        this.texts = texts;
+        this.slots = slots;
+
+        int textLength = 0;
+        for (String text : texts) {
+            textLength += text.length();
+        }
+        this.textLength = textLength;
+    }
+
+    /**
+     * Splits the message into text and placeholders.
+     * If more placeholders match at the same position, the one given first is used.
+     *
+     * @param message      Message to compile
+     * @param placeholders Names of the placeholders, without the % sign
+     * @return Compiled template
+     */
+    public static MessageTemplate compile(String message, String... placeholders) {
+        List<String> texts = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+
+        int start = 0;
+        int index = message.indexOf('%');
+
+        while (index != -1) {
+            int placeholder = findPlaceholder(message, index + 1, placeholders);
+
+            if (placeholder == -1) {
+                index = message.indexOf('%', index + 1);
+                continue;
+            }
+
+            texts.add(message.substring(start, index));
+            slots.add(placeholder);
+
+            start = index + 1 + placeholders[placeholder].length();
+            index = message.indexOf('%', start);
+        }
+
+        texts.add(message.substring(start));
+
+        int[] slotArray = new int[slots.size()];
+        for (int i = 0; i < slotArray.length; i++) {
+            slotArray[i] = slots.get(i);
+        }
+
+        return new MessageTemplate(placeholders, texts.toArray(new String[texts.size()]), slotArray);
+    }
+
+    private static int findPlaceholder(String message, int offset, String[] placeholders) {
+        for (int i = 0; i < placeholders.length; i++) {
+            if (message.startsWith(placeholders[i], offset)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param placeholders Names of the placeholders
+     * @return Was this template compiled for these placeholders?
+     */
+    public boolean hasPlaceholders(String... placeholders) {
+        return this.placeholders == placeholders || Arrays.equals(this.placeholders, placeholders);
+    }
+
+    /**
+     * Splits the template at every occurrence of a placeholder.
+     * The parts keep all other placeholders, and are filled in with the same values as this template.
+     *
+     * @param placeholder Name of the placeholder to split at
+     * @return Templates of the text before, between and after the placeholder
+     */
+    public MessageTemplate[] split(String placeholder) {
+        List<MessageTemplate> parts = new ArrayList<>();
+        int start = 0;
+
+        for (int i = 0; i <= slots.length; i++) {
+            if (i == slots.length || placeholders[slots[i]].equals(placeholder)) {
+                String[] partTexts = Arrays.copyOfRange(texts, start, i + 1);
+                int[] partSlots = Arrays.copyOfRange(slots, start, i);
+
+                parts.add(new MessageTemplate(placeholders, partTexts, partSlots));
+                start = i + 1;
+            }
+        }
+
+        return parts.toArray(new MessageTemplate[parts.size()]);
+    }
+
+    /**
+     * Fills in the placeholders
+     *
+     * @param values Values of the placeholders, in the order in which they were given when compiling.
+     *               Placeholders with a null value are left in the message.
+     * @return The message
+     */
+    public String render(String... values) {
+        StringBuilder builder = new StringBuilder(textLength + slots.length * 16);
+
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(texts[i]);
+
+            String value = values[slots[i]];
+            if (value != null) {
+                builder.append(value);
+            } else {
+                builder.append('%').append(placeholders[slots[i]]);
+            }
+        }
+
+        return builder.append(texts[slots.length]).toString();
+    }
+}
@@ -3,6 +3,9 @@ package com.Acrobot.ChestShop.Configuration;
 import com.Acrobot.Breeze.Configuration.Annotations.PrecededBySpace;
 import com.Acrobot.Breeze.Configuration.Configuration;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * @author Acrobot
  */
@@ -39,10 +42,12 @@ public class Messages {
     @PrecededBySpace
     public static String YOU_BOUGHT_FROM_SHOP = "You bought %item from %owner for %price.";
     public static String SOMEBODY_BOUGHT_FROM_YOUR_SHOP = "%buyer bought %item for %price from your shop at %world/%x/%y/%z.";
+    public static String SOMEBODY_BOUGHT_FROM_YOUR_SHOP_SUMMARY = "%players players bought %item for %price from your shop at %world/%x/%y/%z in the last %seconds seconds.";
 
     @PrecededBySpace
     public static String YOU_SOLD_TO_SHOP = "You sold %item to %buyer for %price.";
     public static String SOMEBODY_SOLD_TO_YOUR_SHOP = "%seller sold %item for %price to your shop at %world/%x/%y/%z.";
+    public static String SOMEBODY_SOLD_TO_YOUR_SHOP_SUMMARY = "%players players sold %item for %price to your shop at %world/%x/%y/%z in the last %seconds seconds.";
 
     @PrecededBySpace
     public static String YOU_CANNOT_CREATE_SHOP = "You can't create this type of shop!";
@@ -77,7 +82,34 @@ public class Messages {
     public static String TOGGLE_MESSAGES_OFF = "You will no longer receive messages from your shop(s).";
     public static String TOGGLE_MESSAGES_ON = "You will now receive messages from your shop(s).";
 
+    private static final Map<String, MessageTemplate> templates = new ConcurrentHashMap<>();
+
     public static String prefix(String message) {
         return Configuration.getColoured(prefix + message);
     }
+
+    /**
+     * Returns the prefixed message compiled into a template. Templates are compiled once and then reused.
+     *
+     * @param message      Message
+     * @param placeholders Names of the placeholders in the message, without the % sign
+     * @return The template
+     */
+    public static MessageTemplate template(String message, String... placeholders) {
+        MessageTemplate template = templates.get(message);
+
+        if (template == null || !template.hasPlaceholders(placeholders)) {
+            template = MessageTemplate.compile(prefix(message), placeholders);
+            templates.put(message, template);
+        }
+
+        return template;
+    }
+
+    /**
+     * Removes all compiled templates, so that they are compiled again with the current prefix
+     */
+    public static void clearTemplates() {
+        templates.clear();
+    }
 }
@@ -71,6 +71,15 @@ public class Properties {
     @ConfigurationComment("(In 1/1000th of a second) How often can a player use the shop sign?")
     public static int SHOP_INTERACTION_INTERVAL = 250;
 
+    @ConfigurationComment("(In 1/1000th of a second) For how long should the result of a protection check be remembered? (0 = check every time)")
+    public static int PROTECTION_CHECK_CACHE_TIME = 1000;
+
+    @ConfigurationComment("For how long (in seconds) should the counted stock of a shop be trusted before it's counted again? (0 = count on every transaction, only raise it if no other plugins change the shops' containers)")
+    public static int STOCK_COUNTER_TIME = 0;
+
+    @ConfigurationComment("How often (in seconds) should the remembered permissions for other players' names, discounts and restricted signs be checked again? (0 = check every time)")
+    public static int PERMISSION_CACHE_TIME = 30;
+
     @ConfigurationComment("Do you want to allow using shops to people in creative mode?")
     public static boolean IGNORE_CREATIVE_MODE = true;
 
@@ -116,6 +125,9 @@ public class Properties {
     @ConfigurationComment("Percent of the price that should go to the server's account when buying from an Admin Shop.")
     public static int SERVER_TAX_AMOUNT = 0;
 
+    @ConfigurationComment("How often (in seconds) should the collected taxes be deposited to the server's account? (0 = deposit on every transaction)")
+    public static int TAX_DEPOSIT_INTERVAL = 60;
+
     @ConfigurationComment("Amount of money player must pay to create a shop")
     public static double SHOP_CREATION_PRICE = 0;
 
@@ -157,6 +169,9 @@ public class Properties {
     @ConfigurationComment("Do you want to show \"Somebody bought/sold... \" messages?")
     public static boolean SHOW_TRANSACTION_INFORMATION_OWNER = true;
 
+    @ConfigurationComment("How often (in seconds) should shop owners get one summary of their shops' transactions? (0 = a message for every transaction)")
+    public static int OWNER_NOTIFICATION_INTERVAL = 0;
+
     @PrecededBySpace
     @ConfigurationComment("If true, plugin will log transactions in its own file")
     public static boolean LOG_TO_FILE = false;
@@ -164,6 +179,15 @@ public class Properties {
     @ConfigurationComment("Do you want ChestShop's messages to show up in console?")
     public static boolean LOG_TO_CONSOLE = true;
 
+    @ConfigurationComment("Should ChestShop measure how long the single stages of a transaction take? (See /csmetrics)")
+    public static boolean TRANSACTION_METRICS = false;
+
+    @ConfigurationComment("How often (in seconds) should ChestShop write its metrics to the metrics file? (0 = never)")
+    public static int METRICS_EXPORT_INTERVAL = 0;
+
+    @ConfigurationComment("File in the plugin's folder to which the metrics are written, in the Prometheus text format")
+    public static String METRICS_EXPORT_FILE = "metrics.prom";
+
     @PrecededBySpace
     @ConfigurationComment("Do you want to stack all items up to 64 item stacks?")
     public static boolean STACK_TO_64 = false;
@@ -171,6 +195,12 @@ public class Properties {
     @ConfigurationComment("Do you want to use built-in protection against chest destruction?")
     public static boolean USE_BUILT_IN_PROTECTION = true;
 
+    @ConfigurationComment("If true, explosions near shops will only leave the shop blocks intact instead of being cancelled completely.")
+    public static boolean REMOVE_SHOP_BLOCKS_FROM_EXPLOSIONS = false;
+
+    @ConfigurationComment("If true, explosions and pistons only check the blocks next to shop signs ChestShop saw being created or loaded. This is faster, but shops whose signs were placed without being written (for example pasted with WorldEdit) aren't protected until their chunk is loaded again.")
+    public static boolean PROTECT_ONLY_INDEXED_SHOPS = false;
+
     @ConfigurationComment("Do you want to have shop signs \"stick\" to chests?")
     public static boolean STICK_SIGNS_TO_CHESTS = false;
 
@@ -202,6 +232,9 @@ public class Properties {
     @ConfigurationComment("Do you want ChestShop to respect WorldGuard's chest protection?")
     public static boolean WORLDGUARD_USE_PROTECTION = false;
 
+    @ConfigurationComment("How often (in seconds) should ChestShop forget which WorldGuard regions are in a chunk, so that changed regions are seen? (0 = don't remember the regions)")
+    public static int WORLDGUARD_REGION_CACHE_TIME = 60;
+
     @PrecededBySpace
     @ConfigurationComment("Do you want to deny shop access to unlogged users?")
     public static boolean AUTHME_HOOK = true;
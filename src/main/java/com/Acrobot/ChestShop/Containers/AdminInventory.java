@@ -1,6 +1,5 @@
 package com.Acrobot.ChestShop.Containers;
 
-import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -15,9 +14,23 @@ import org.bukkit.inventory.InventoryHolder;
 import org.bukkit.inventory.ItemStack;
 
 /**
+ * Inventory of admin shops, which holds an unlimited amount of every item.
+ * It has no state, so a single instance is shared by all admin shops.
+ *
  * @author Acrobot
  */
 public class AdminInventory implements Inventory {
+    private static final AdminInventory INSTANCE = new AdminInventory();
+
+    private static final ItemStack[] STORAGE_CONTENTS = new ItemStack[0];
+
+    /**
+     * @return The admin inventory
+     */
+    public static AdminInventory getInstance() {
+        return INSTANCE;
+    }
+
     @Override
     public int getSize() {
         return Integer.MAX_VALUE;
@@ -70,7 +83,7 @@ public class AdminInventory implements Inventory {
 
     @Override
     public ItemStack[] getStorageContents() {
-        return new ItemStack[0];
+        return STORAGE_CONTENTS;
     }
 
     @Override
@@ -164,7 +177,7 @@ public class AdminInventory implements Inventory {
 
     @Override
     public List<HumanEntity> getViewers() {
-        return new ArrayList<>();
+        return Collections.emptyList();
     }
 
     @Override
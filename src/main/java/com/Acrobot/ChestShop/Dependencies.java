@@ -4,7 +4,10 @@ import com.Acrobot.Breeze.Utils.MaterialUtil;
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Listeners.Economy.Plugins.ReserveListener;
 import com.Acrobot.ChestShop.Listeners.Economy.Plugins.VaultListener;
+import com.Acrobot.ChestShop.Metrics.MetricsRegistry;
 import com.Acrobot.ChestShop.Plugins.*;
+import com.Acrobot.ChestShop.Utils.IntervalTask;
+import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.bukkit.WorldGuardPlugin;
 import org.bukkit.Bukkit;
 import org.bukkit.event.Listener;
@@ -135,12 +138,17 @@ public class Dependencies {
                     return;
                 }
 
+                WorldGuardRegionCache regionCache = new WorldGuardRegionCache(WorldGuard.getInstance().getPlatform());
+                MetricsRegistry.registerCache("worldguard_regions", regionCache.getCache());
+
+                IntervalTask.schedule(ChestShop.getPlugin(), () -> Properties.WORLDGUARD_REGION_CACHE_TIME, regionCache::clear);
+
                 if (Properties.WORLDGUARD_USE_PROTECTION) {
-                    ChestShop.registerListener(new WorldGuardProtection(worldGuard));
+                    ChestShop.registerListener(new WorldGuardProtection(worldGuard, regionCache));
                 }
 
                 if (Properties.WORLDGUARD_INTEGRATION) {
-                    listener = new WorldGuardBuilding(worldGuard);
+                    listener = new WorldGuardBuilding(worldGuard, regionCache);
                 }
 
                 break;
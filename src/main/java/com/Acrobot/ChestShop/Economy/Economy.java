@@ -11,7 +11,6 @@ import com.Acrobot.ChestShop.UUIDs.NameManager;
 import org.bukkit.World;
 import org.bukkit.inventory.Inventory;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 /**
@@ -34,28 +33,44 @@ public class Economy {
     }
 
     public static boolean add(UUID name, World world, double amount) {
-        CurrencyAddEvent event = new CurrencyAddEvent(BigDecimal.valueOf(amount), name, world);
+        return add(name, world, Money.valueOf(amount));
+    }
+
+    public static boolean add(UUID name, World world, Money amount) {
+        CurrencyAddEvent event = new CurrencyAddEvent(amount, name, world);
         ChestShop.callEvent(event);
 
         return event.isAdded();
     }
 
     public static boolean subtract(UUID name, World world, double amount) {
-        CurrencySubtractEvent event = new CurrencySubtractEvent(BigDecimal.valueOf(amount), name, world);
+        return subtract(name, world, Money.valueOf(amount));
+    }
+
+    public static boolean subtract(UUID name, World world, Money amount) {
+        CurrencySubtractEvent event = new CurrencySubtractEvent(amount, name, world);
         ChestShop.callEvent(event);
 
         return event.isSubtracted();
     }
 
     public static boolean hasEnough(UUID name, World world, double amount) {
-        CurrencyCheckEvent event = new CurrencyCheckEvent(BigDecimal.valueOf(amount), name, world);
+        return hasEnough(name, world, Money.valueOf(amount));
+    }
+
+    public static boolean hasEnough(UUID name, World world, Money amount) {
+        CurrencyCheckEvent event = new CurrencyCheckEvent(amount, name, world);
         ChestShop.callEvent(event);
 
         return event.hasEnough();
     }
 
     public static String formatBalance(double amount) {
-        CurrencyFormatEvent event = new CurrencyFormatEvent(BigDecimal.valueOf(amount));
+        return formatBalance(Money.valueOf(amount));
+    }
+
+    public static String formatBalance(Money amount) {
+        CurrencyFormatEvent event = new CurrencyFormatEvent(amount);
         ChestShop.callEvent(event);
 
         return event.getFormattedAmount();
@@ -0,0 +1,304 @@
+package com.Acrobot.ChestShop.Economy;
+
+import com.Acrobot.ChestShop.Configuration.Properties;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Immutable fixed-point amount of money, stored as a long amount of units
+ * with {@link Properties#PRICE_PRECISION} decimal places.
+ * Values that don't fit into a long are saturated at {@link Long#MAX_VALUE} / {@link Long#MIN_VALUE} units.
+ *
+ * @author Acrobot
+ */
+public final class Money implements Comparable<Money> {
+    public static final Money ZERO = new Money(0, 0);
+
+    private static final long[] POWERS_OF_TEN = new long[19];
+
+    static {
+        POWERS_OF_TEN[0] = 1;
+        for (int i = 1; i < POWERS_OF_TEN.length; i++) {
+            POWERS_OF_TEN[i] = POWERS_OF_TEN[i - 1] * 10;
+        }
+    }
+
+    private final long units;
+    private final int scale;
+
+    private Money(long units, int scale) {
+        this.units = units;
+        this.scale = scale;
+    }
+
+    /**
+     * Creates money from an amount of units with the configured precision
+     *
+     * @param units Amount of units (e.g. cents with a precision of 2)
+     * @return Money
+     */
+    public static Money ofUnits(long units) {
+        return new Money(units, getPrecision());
+    }
+
+    /**
+     * Creates money from a double, rounding its shortest decimal representation half up to the configured precision
+     *
+     * @param amount Amount of money
+     * @return Money
+     */
+    public static Money valueOf(double amount) {
+        return valueOf(amount, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Creates money from a double, rounding its shortest decimal representation to the configured precision
+     *
+     * @param amount   Amount of money
+     * @param rounding How to round the amount
+     * @return Money
+     */
+    public static Money valueOf(double amount, RoundingMode rounding) {
+        if (Double.isNaN(amount)) {
+            return new Money(0, getPrecision());
+        }
+
+        if (Double.isInfinite(amount)) {
+            return new Money(amount > 0 ? Long.MAX_VALUE : Long.MIN_VALUE, getPrecision());
+        }
+
+        return valueOf(BigDecimal.valueOf(amount), rounding); // rounds the decimal value, like prices given as BigDecimal
+    }
+
+    /**
+     * Creates money from a BigDecimal, rounding half up to the configured precision
+     *
+     * @param amount Amount of money
+     * @return Money
+     */
+    public static Money valueOf(BigDecimal amount) {
+        return valueOf(amount, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Creates money from a BigDecimal
+     *
+     * @param amount   Amount of money
+     * @param rounding How to round the amount to the configured precision
+     * @return Money
+     */
+    public static Money valueOf(BigDecimal amount, RoundingMode rounding) {
+        int scale = getPrecision();
+        return new Money(saturate(amount.setScale(scale, rounding).unscaledValue()), scale);
+    }
+
+    /**
+     * @return Amount of units (e.g. cents with a scale of 2)
+     */
+    public long getUnits() {
+        return units;
+    }
+
+    /**
+     * @return Number of decimal places of this amount
+     */
+    public int getScale() {
+        return scale;
+    }
+
+    /**
+     * @return -1, 0 or 1 as this amount is negative, zero or positive
+     */
+    public int signum() {
+        return Long.signum(units);
+    }
+
+    /**
+     * @return Is this amount zero?
+     */
+    public boolean isZero() {
+        return units == 0;
+    }
+
+    /**
+     * Adds money to this amount
+     *
+     * @param other Money to add
+     * @return Sum of both amounts
+     */
+    public Money add(Money other) {
+        int commonScale = Math.max(scale, other.scale);
+        return new Money(saturatedAdd(rescale(units, scale, commonScale), rescale(other.units, other.scale, commonScale)), commonScale);
+    }
+
+    /**
+     * Subtracts money from this amount
+     *
+     * @param other Money to subtract
+     * @return Difference of both amounts
+     */
+    public Money subtract(Money other) {
+        int commonScale = Math.max(scale, other.scale);
+        return new Money(saturatedAdd(rescale(units, scale, commonScale), -rescale(other.units, other.scale, commonScale)), commonScale);
+    }
+
+    /**
+     * Multiplies this amount by a whole number
+     *
+     * @param multiplier Multiplier
+     * @return Product
+     */
+    public Money multiply(long multiplier) {
+        return multiply(multiplier, 1, RoundingMode.UNNECESSARY);
+    }
+
+    /**
+     * Multiplies this amount by a fraction, without losing precision in between
+     *
+     * @param numerator   Numerator of the fraction
+     * @param denominator Denominator of the fraction
+     * @param rounding    How to round the result to this amount's scale
+     * @return Product
+     */
+    public Money multiply(long numerator, long denominator, RoundingMode rounding) {
+        return new Money(multiplyDivide(units, numerator, denominator, rounding), scale);
+    }
+
+    /**
+     * Multiplies this amount by a factor, rounding half up
+     *
+     * @param factor Factor
+     * @return Product
+     */
+    public Money multiply(double factor) {
+        return new Money(saturate(toBigDecimal().multiply(BigDecimal.valueOf(factor)).setScale(scale, RoundingMode.HALF_UP).unscaledValue()), scale);
+    }
+
+    /**
+     * Gets the part of this amount that corresponds to a part of the whole (e.g. the price of 3 out of 64 items)
+     *
+     * @param part  The part
+     * @param whole The whole
+     * @return This amount, scaled by part/whole and rounded half up
+     */
+    public Money portion(long part, long whole) {
+        return multiply(part, whole, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Tells how many times the divisor fits fully into this amount
+     *
+     * @param divisor Divisor
+     * @return Rounded down quotient, Long.MAX_VALUE if the divisor is zero
+     */
+    public long divideToIntegral(Money divisor) {
+        if (divisor.units == 0) {
+            return Long.MAX_VALUE;
+        }
+
+        int commonScale = Math.max(scale, divisor.scale);
+        return multiplyDivide(rescale(units, scale, commonScale), 1, rescale(divisor.units, divisor.scale, commonScale), RoundingMode.FLOOR);
+    }
+
+    /**
+     * @return This amount as a BigDecimal
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(units, scale);
+    }
+
+    /**
+     * @return This amount as a double
+     */
+    public double doubleValue() {
+        if (Math.abs(units) < (1L << 52)) {
+            return (double) units / POWERS_OF_TEN[scale];
+        }
+        return toBigDecimal().doubleValue();
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        int commonScale = Math.max(scale, other.scale);
+        return Long.compare(rescale(units, scale, commonScale), rescale(other.units, other.scale, commonScale));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof Money && compareTo((Money) other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        long normalized = units;
+        int normalizedScale = scale;
+
+        while (normalizedScale > 0 && normalized % 10 == 0) {
+            normalized /= 10;
+            normalizedScale--;
+        }
+
+        return Long.hashCode(normalized);
+    }
+
+    @Override
+    public String toString() {
+        return toBigDecimal().toPlainString();
+    }
+
+    private static int getPrecision() {
+        return Math.max(0, Math.min(Properties.PRICE_PRECISION, POWERS_OF_TEN.length - 1));
+    }
+
+    private static long rescale(long units, int from, int to) {
+        if (from == to) {
+            return units;
+        }
+        return multiplyDivide(units, POWERS_OF_TEN[to - from], 1, RoundingMode.UNNECESSARY);
+    }
+
+    private static long saturatedAdd(long a, long b) {
+        long result = a + b;
+
+        if (((a ^ result) & (b ^ result)) < 0) {
+            return a < 0 ? Long.MIN_VALUE : Long.MAX_VALUE;
+        }
+
+        return result;
+    }
+
+    private static long multiplyDivide(long value, long numerator, long denominator, RoundingMode rounding) {
+        try {
+            long product = Math.multiplyExact(value, numerator);
+
+            if (denominator == 1) {
+                return product;
+            }
+
+            if (rounding == RoundingMode.FLOOR) {
+                return Math.floorDiv(product, denominator);
+            }
+
+            if (product % denominator == 0) {
+                return product / denominator;
+            }
+        } catch (ArithmeticException overflow) {
+            // fall back to BigDecimal below
+        }
+
+        return saturate(BigDecimal.valueOf(value)
+                .multiply(BigDecimal.valueOf(numerator))
+                .divide(BigDecimal.valueOf(denominator), 0, rounding == RoundingMode.UNNECESSARY ? RoundingMode.DOWN : rounding)
+                .unscaledValue());
+    }
+
+    private static long saturate(BigInteger value) {
+        if (value.bitLength() < 64) {
+            return value.longValue();
+        }
+
+        return value.signum() > 0 ? Long.MAX_VALUE : Long.MIN_VALUE;
+    }
+}
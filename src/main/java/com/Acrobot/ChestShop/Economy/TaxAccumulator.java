@@ -0,0 +1,214 @@
+package com.Acrobot.ChestShop.Economy;
+
+import com.Acrobot.ChestShop.ChestShop;
+import com.Acrobot.ChestShop.Database.Account;
+import com.Acrobot.ChestShop.Events.Economy.CurrencyAddEvent;
+import com.Acrobot.ChestShop.UUIDs.NameManager;
+import org.bukkit.Bukkit;
+import org.bukkit.World;
+import org.bukkit.configuration.file.YamlConfiguration;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+/**
+ * Collects taxes per world and deposits them to the server economy account in one go.
+ * The taxes which weren't deposited yet are kept in a file, so that they aren't lost when the server stops.
+ *
+ * @author Acrobot
+ */
+public class TaxAccumulator {
+    private final Map<UUID, AtomicLong> collected = new ConcurrentHashMap<>();
+    private final Queue<Map<UUID, Long>> taken = new ConcurrentLinkedQueue<>();
+    private final Queue<Map<UUID, Long>> saved = new ConcurrentLinkedQueue<>();
+    private final int scale = Money.ofUnits(0).getScale();
+
+    private final File file;
+    private volatile boolean dirty;
+
+    public TaxAccumulator(File file) {
+        this.file = file;
+        load();
+    }
+
+    /**
+     * Adds tax that should be deposited to the server economy account later
+     *
+     * @param tax   Amount of tax
+     * @param world The world in which the tax was collected
+     */
+    public void add(Money tax, World world) {
+        long units = tax.getScale() == scale ? tax.getUnits() : toUnits(tax.toBigDecimal());
+
+        if (units == 0) {
+            return;
+        }
+
+        collected.computeIfAbsent(world.getUID(), uuid -> new AtomicLong()).addAndGet(units);
+        dirty = true;
+    }
+
+    /**
+     * @param world World
+     * @return Amount of tax that was collected in this world and not deposited yet
+     */
+    public Money getCollected(World world) {
+        AtomicLong units = collected.get(world.getUID());
+        long total = units == null ? 0 : units.get();
+
+        for (Map<UUID, Long> batch : taken) {
+            total += batch.getOrDefault(world.getUID(), 0L);
+        }
+
+        for (Map<UUID, Long> batch : saved) {
+            total += batch.getOrDefault(world.getUID(), 0L);
+        }
+
+        return Money.ofUnits(total);
+    }
+
+    /**
+     * Takes the collected taxes out, so that they are deposited after the next save.
+     * They are only deposited once the file no longer contains them,
+     * so that a crash can't deposit them a second time.
+     */
+    public void flush() {
+        if (NameManager.getServerEconomyAccount() == null) {
+            return;
+        }
+
+        Map<UUID, Long> batch = new HashMap<>();
+
+        for (Map.Entry<UUID, AtomicLong> entry : collected.entrySet()) {
+            if (Bukkit.getWorld(entry.getKey()) == null) {
+                continue;
+            }
+
+            long units = entry.getValue().getAndSet(0);
+
+            if (units != 0) {
+                batch.put(entry.getKey(), units);
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            taken.add(batch);
+            dirty = true;
+        }
+    }
+
+    /**
+     * Saves the taxes which weren't deposited yet, if they changed since the last save.
+     * The taxes taken out before the save are then deposited on the main thread.
+     */
+    public void save() {
+        if (write()) {
+            Bukkit.getScheduler().runTask(ChestShop.getPlugin(), this::deposit);
+        }
+    }
+
+    /**
+     * Deposits all collected taxes and saves the ones which couldn't be deposited.
+     * Must be called from the main thread, when the plugin is being disabled.
+     */
+    public void close() {
+        flush();
+        write();
+        deposit();
+        write();
+    }
+
+    /**
+     * Writes the file, if anything changed since it was last written
+     *
+     * @return Were taken taxes saved, so that they can be deposited now?
+     */
+    private synchronized boolean write() {
+        if (!dirty) {
+            return false;
+        }
+
+        dirty = false;
+
+        List<Map<UUID, Long>> written = new ArrayList<>();
+        for (Map<UUID, Long> batch; (batch = taken.poll()) != null; ) {
+            written.add(batch); // taken out of the collected taxes before they are read below
+        }
+
+        YamlConfiguration config = new YamlConfiguration();
+
+        for (Map.Entry<UUID, AtomicLong> entry : collected.entrySet()) {
+            long units = entry.getValue().get();
+
+            if (units != 0) {
+                config.set(entry.getKey().toString(), BigDecimal.valueOf(units, scale).toPlainString());
+            }
+        }
+
+        try {
+            config.save(file);
+        } catch (IOException e) {
+            dirty = true;
+            taken.addAll(written);
+            ChestShop.getBukkitLogger().log(Level.SEVERE, "Couldn't save the collected taxes", e);
+            return false;
+        }
+
+        saved.addAll(written);
+        return !written.isEmpty();
+    }
+
+    /**
+     * Deposits the taken taxes which were saved. The ones which can't be deposited are collected again.
+     */
+    private void deposit() {
+        Account serverAccount = NameManager.getServerEconomyAccount();
+
+        for (Map<UUID, Long> batch; (batch = saved.poll()) != null; ) {
+            for (Map.Entry<UUID, Long> entry : batch.entrySet()) {
+                World world = Bukkit.getWorld(entry.getKey());
+                boolean added = false;
+
+                if (serverAccount != null && world != null) {
+                    CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(Money.ofUnits(entry.getValue()), serverAccount.getUuid(), world);
+                    ChestShop.callEvent(currencyAddEvent);
+                    added = currencyAddEvent.isAdded();
+                }
+
+                if (!added) {
+                    collected.computeIfAbsent(entry.getKey(), uuid -> new AtomicLong()).addAndGet(entry.getValue());
+                    dirty = true;
+                }
+            }
+        }
+    }
+
+    private void load() {
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+
+        for (String key : config.getKeys(false)) {
+            try {
+                long units = toUnits(new BigDecimal(config.getString(key)));
+                collected.computeIfAbsent(UUID.fromString(key), uuid -> new AtomicLong()).addAndGet(units);
+            } catch (IllegalArgumentException e) {
+                ChestShop.getBukkitLogger().warning("Invalid collected tax entry " + key + " in " + file.getName());
+            }
+        }
+    }
+
+    private long toUnits(BigDecimal amount) {
+        return amount.setScale(scale, RoundingMode.DOWN).unscaledValue().longValue();
+    }
+}
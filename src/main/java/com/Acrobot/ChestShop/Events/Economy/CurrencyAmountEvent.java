@@ -1,11 +1,13 @@
 package com.Acrobot.ChestShop.Events.Economy;
 
+import com.Acrobot.ChestShop.Economy.Money;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.UUID;
 
 /**
@@ -16,7 +18,7 @@ import java.util.UUID;
 public class CurrencyAmountEvent extends Event {
     private static final HandlerList handlers = new HandlerList();
 
-    private BigDecimal amount = BigDecimal.ZERO;
+    private Money amount = Money.ZERO;
     private UUID account;
     private World world;
 
@@ -33,6 +35,13 @@ public class CurrencyAmountEvent extends Event {
      * @return Amount of currency
      */
     public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    /**
+     * @return Amount of currency, as fixed-point money
+     */
+    public Money getExactAmount() {
         return amount;
     }
 
@@ -45,22 +54,31 @@ public class CurrencyAmountEvent extends Event {
     }
 
     /**
-     * Sets the amount of currency
+     * Sets the amount of currency, rounded down so that it's never more than is available
      *
      * @param amount Amount available
      */
     public void setAmount(BigDecimal amount) {
-        this.amount = amount;
+        this.amount = Money.valueOf(amount, RoundingMode.DOWN);
     }
 
     /**
      * Sets the amount of currency
      *
      * @param amount Amount available
+     */
+    public void setExactAmount(Money amount) {
+        this.amount = amount;
+    }
+
+    /**
+     * Sets the amount of currency, rounded down so that it's never more than is available
+     *
+     * @param amount Amount available
      * @deprecated Use {@link #setAmount(java.math.BigDecimal)} if possible
      */
     public void setAmount(double amount) {
-        this.amount = BigDecimal.valueOf(amount);
+        this.amount = Money.valueOf(amount, RoundingMode.DOWN);
     }
 
     /**
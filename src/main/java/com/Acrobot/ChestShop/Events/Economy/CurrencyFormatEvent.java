@@ -1,5 +1,6 @@
 package com.Acrobot.ChestShop.Events.Economy;
 
+import com.Acrobot.ChestShop.Economy.Money;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
 
@@ -13,17 +14,28 @@ import java.math.BigDecimal;
 public class CurrencyFormatEvent extends Event {
     private static final HandlerList handlers = new HandlerList();
 
-    private final BigDecimal amount;
+    private final Money amount;
     private String formattedAmount = "";
 
-    public CurrencyFormatEvent(BigDecimal amount) {
+    public CurrencyFormatEvent(Money amount) {
         this.amount = amount;
     }
 
+    public CurrencyFormatEvent(BigDecimal amount) {
+        this(Money.valueOf(amount));
+    }
+
     /**
      * @return Amount of currency
      */
     public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    /**
+     * @return Amount of currency, as fixed-point money
+     */
+    public Money getExactAmount() {
         return amount;
     }
 
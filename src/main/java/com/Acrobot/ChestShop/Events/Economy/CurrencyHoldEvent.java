@@ -1,5 +1,6 @@
 package com.Acrobot.ChestShop.Events.Economy;
 
+import com.Acrobot.ChestShop.Economy.Money;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
@@ -18,16 +19,24 @@ public class CurrencyHoldEvent extends Event {
 
     boolean canHold = true;
 
-    private BigDecimal amount;
+    private Money amount;
     private UUID account;
     private World world;
 
-    public CurrencyHoldEvent(BigDecimal amount, UUID account, World world) {
+    public CurrencyHoldEvent(Money amount, UUID account, World world) {
         this.amount = amount;
         this.account = account;
         this.world = world;
     }
 
+    public CurrencyHoldEvent(BigDecimal amount, UUID account, World world) {
+        this(Money.valueOf(amount), account, world);
+    }
+
+    public CurrencyHoldEvent(Money amount, Player target) {
+        this(amount, target.getUniqueId(), target.getWorld());
+    }
+
     public CurrencyHoldEvent(BigDecimal amount, Player target) {
         this(amount, target.getUniqueId(), target.getWorld());
     }
@@ -52,6 +61,13 @@ public class CurrencyHoldEvent extends Event {
      * @return Amount of currency
      */
     public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    /**
+     * @return Amount of currency, as fixed-point money
+     */
+    public Money getExactAmount() {
         return amount;
     }
 
@@ -69,6 +85,15 @@ public class CurrencyHoldEvent extends Event {
      * @param amount Amount to check
      */
     public void setAmount(BigDecimal amount) {
+        this.amount = Money.valueOf(amount);
+    }
+
+    /**
+     * Sets the amount of currency to check
+     *
+     * @param amount Amount to check
+     */
+    public void setExactAmount(Money amount) {
         this.amount = amount;
     }
 
@@ -79,7 +104,7 @@ public class CurrencyHoldEvent extends Event {
      * @deprecated Use {@link #setAmount(java.math.BigDecimal)} if possible
      */
     public void setAmount(double amount) {
-        this.amount = BigDecimal.valueOf(amount);
+        this.amount = Money.valueOf(amount);
     }
 
     /**
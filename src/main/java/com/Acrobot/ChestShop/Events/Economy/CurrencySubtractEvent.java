@@ -1,5 +1,6 @@
 package com.Acrobot.ChestShop.Events.Economy;
 
+import com.Acrobot.ChestShop.Economy.Money;
 import org.bukkit.World;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
@@ -18,16 +19,24 @@ public class CurrencySubtractEvent extends Event {
 
     boolean subtracted;
 
-    private BigDecimal amount;
+    private Money amount;
     private UUID target;
     private World world;
 
-    public CurrencySubtractEvent(BigDecimal amount, UUID target, World world) {
+    public CurrencySubtractEvent(Money amount, UUID target, World world) {
         this.amount = amount;
         this.target = target;
         this.world = world;
     }
 
+    public CurrencySubtractEvent(BigDecimal amount, UUID target, World world) {
+        this(Money.valueOf(amount), target, world);
+    }
+
+    public CurrencySubtractEvent(Money amount, Player target) {
+        this(amount, target.getUniqueId(), target.getWorld());
+    }
+
     public CurrencySubtractEvent(BigDecimal amount, Player target) {
         this(amount, target.getUniqueId(), target.getWorld());
     }
@@ -36,6 +45,13 @@ public class CurrencySubtractEvent extends Event {
      * @return Amount of currency
      */
     public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    /**
+     * @return Amount of currency, as fixed-point money
+     */
+    public Money getExactAmount() {
         return amount;
     }
 
@@ -53,6 +69,15 @@ public class CurrencySubtractEvent extends Event {
      * @param amount Amount to transfer
      */
     public void setAmount(BigDecimal amount) {
+        this.amount = Money.valueOf(amount);
+    }
+
+    /**
+     * Sets the amount of currency transferred
+     *
+     * @param amount Amount to transfer
+     */
+    public void setExactAmount(Money amount) {
         this.amount = amount;
     }
 
@@ -63,7 +88,7 @@ public class CurrencySubtractEvent extends Event {
      * @deprecated Use {@link #setAmount(java.math.BigDecimal)} if possible
      */
     public void setAmount(double amount) {
-        this.amount = BigDecimal.valueOf(amount);
+        this.amount = Money.valueOf(amount);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.Acrobot.ChestShop.Events.Economy;
 
+import com.Acrobot.ChestShop.Economy.Money;
 import org.bukkit.World;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
@@ -15,13 +16,13 @@ import java.util.UUID;
 public class CurrencyTransferEvent extends Event {
     private static final HandlerList handlers = new HandlerList();
 
-    private BigDecimal amount;
+    private Money amount;
     private World world;
     private UUID sender;
     private UUID receiver;
     private boolean success;
 
-    public CurrencyTransferEvent(BigDecimal amount, UUID sender, UUID receiver, World world) {
+    public CurrencyTransferEvent(Money amount, UUID sender, UUID receiver, World world) {
         this.amount = amount;
         this.world = world;
 
@@ -29,14 +30,25 @@ public class CurrencyTransferEvent extends Event {
         this.receiver = receiver;
     }
 
+    public CurrencyTransferEvent(BigDecimal amount, UUID sender, UUID receiver, World world) {
+        this(Money.valueOf(amount), sender, receiver, world);
+    }
+
     public CurrencyTransferEvent(double amount, UUID sender, UUID receiver, World world) {
-        this(BigDecimal.valueOf(amount), sender, receiver, world);
+        this(Money.valueOf(amount), sender, receiver, world);
     }
 
     /**
      * @return Amount of currency
      */
     public BigDecimal getAmount() {
+        return amount.toBigDecimal();
+    }
+
+    /**
+     * @return Amount of currency, as fixed-point money
+     */
+    public Money getExactAmount() {
         return amount;
     }
 
@@ -54,6 +66,15 @@ public class CurrencyTransferEvent extends Event {
      * @param amount Amount to transfer
      */
     public void setAmount(BigDecimal amount) {
+        this.amount = Money.valueOf(amount);
+    }
+
+    /**
+     * Sets the amount of currency transferred
+     *
+     * @param amount Amount to transfer
+     */
+    public void setExactAmount(Money amount) {
         this.amount = amount;
     }
 
@@ -64,7 +85,7 @@ public class CurrencyTransferEvent extends Event {
      * @deprecated Use {@link #setAmount(java.math.BigDecimal)} if possible
      */
     public void setAmount(double amount) {
-        this.amount = BigDecimal.valueOf(amount);
+        this.amount = Money.valueOf(amount);
     }
 
     /**
@@ -0,0 +1,258 @@
+package com.Acrobot.ChestShop.Events;
+
+import com.Acrobot.ChestShop.Events.Economy.*;
+import com.Acrobot.ChestShop.Events.Protection.ProtectionCheckEvent;
+import com.Acrobot.ChestShop.Metrics.Histogram;
+import com.Acrobot.ChestShop.Metrics.StageMetrics;
+import org.bukkit.event.*;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredListener;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.logging.Level;
+
+/**
+ * Calls ChestShop's own handlers of the frequently called events directly, in priority order,
+ * when the events are called through {@link com.Acrobot.ChestShop.ChestShop#callEvent(Event)}.
+ * The handlers stay registered in the events' HandlerLists, so events called by other plugins
+ * (or subclasses of the events) still reach them through Bukkit.
+ * Handlers of other plugins are still called through the event's HandlerList, if there are any.
+ *
+ * @author Acrobot
+ */
+public class EventPipeline {
+    private static final Map<Class<? extends Event>, EventPipeline> pipelines = new HashMap<>();
+
+    static {
+        register(PreTransactionEvent.class, PreTransactionEvent.getHandlerList());
+        register(TransactionEvent.class, TransactionEvent.getHandlerList());
+        register(ProtectionCheckEvent.class, ProtectionCheckEvent.getHandlerList());
+
+        register(AccountCheckEvent.class, AccountCheckEvent.getHandlerList());
+        register(CurrencyAddEvent.class, CurrencyAddEvent.getHandlerList());
+        register(CurrencyAmountEvent.class, CurrencyAmountEvent.getHandlerList());
+        register(CurrencyCheckEvent.class, CurrencyCheckEvent.getHandlerList());
+        register(CurrencyFormatEvent.class, CurrencyFormatEvent.getHandlerList());
+        register(CurrencyHoldEvent.class, CurrencyHoldEvent.getHandlerList());
+        register(CurrencySubtractEvent.class, CurrencySubtractEvent.getHandlerList());
+        register(CurrencyTransferEvent.class, CurrencyTransferEvent.getHandlerList());
+    }
+
+    private final HandlerList handlers;
+    private final Set<Listener> adopted = Collections.newSetFromMap(new IdentityHashMap<>());
+    private volatile Stage[] stages = new Stage[0];
+    private volatile OtherListeners otherListeners = new OtherListeners(null, new RegisteredListener[0]);
+
+    private EventPipeline(HandlerList handlers) {
+        this.handlers = handlers;
+    }
+
+    private static void register(Class<? extends Event> eventClass, HandlerList handlers) {
+        pipelines.put(eventClass, new EventPipeline(handlers));
+    }
+
+    /**
+     * Returns the pipeline for the event class
+     *
+     * @param eventClass Event class
+     * @return Pipeline, or null if the event isn't dispatched by a pipeline
+     */
+    public static EventPipeline get(Class<? extends Event> eventClass) {
+        return pipelines.get(eventClass);
+    }
+
+    /**
+     * Adds the listener's handlers of pipeline events to the pipelines.
+     * The listener must already be registered in Bukkit, where it stays registered;
+     * the pipelines skip it when calling the HandlerLists' listeners.
+     *
+     * @param listener Listener
+     * @param plugin   Plugin owning the listener
+     */
+    public static void adopt(Listener listener, Plugin plugin) {
+        Set<Method> methods = new LinkedHashSet<>(Arrays.asList(listener.getClass().getMethods()));
+        Collections.addAll(methods, listener.getClass().getDeclaredMethods());
+
+        for (Method method : methods) {
+            EventHandler annotation = method.getAnnotation(EventHandler.class);
+
+            if (annotation == null || method.isBridge() || method.isSynthetic() || method.getParameterTypes().length != 1) {
+                continue;
+            }
+
+            EventPipeline pipeline = pipelines.get(method.getParameterTypes()[0]);
+
+            if (pipeline == null) {
+                continue;
+            }
+
+            MethodHandle handle;
+
+            try {
+                method.setAccessible(true);
+                handle = MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | SecurityException e) {
+                plugin.getLogger().log(Level.WARNING, "Couldn't add " + method + " to the event pipeline", e);
+                continue;
+            }
+
+            if (!Modifier.isStatic(method.getModifiers())) {
+                handle = handle.bindTo(listener);
+            }
+
+            handle = handle.asType(MethodType.methodType(void.class, Event.class));
+
+            String name = method.getParameterTypes()[0].getSimpleName() + ' ' + listener.getClass().getSimpleName() + '.' + method.getName();
+            pipeline.add(listener, new Stage(handle, annotation.priority(), annotation.ignoreCancelled(), plugin, StageMetrics.getHistogram(name)));
+        }
+    }
+
+    /**
+     * Removes all stages of all pipelines
+     */
+    public static void clear() {
+        for (EventPipeline pipeline : pipelines.values()) {
+            synchronized (pipeline) {
+                pipeline.stages = new Stage[0];
+                pipeline.adopted.clear();
+                pipeline.otherListeners = new OtherListeners(null, new RegisteredListener[0]);
+            }
+        }
+    }
+
+    private synchronized void add(Listener listener, Stage stage) {
+        Stage[] newStages = Arrays.copyOf(stages, stages.length + 1);
+        int index = newStages.length - 1;
+
+        while (index > 0 && newStages[index - 1].priority.getSlot() > stage.priority.getSlot()) {
+            newStages[index] = newStages[index - 1];
+            index--;
+        }
+
+        newStages[index] = stage;
+        stages = newStages;
+
+        adopted.add(listener);
+        otherListeners = new OtherListeners(null, new RegisteredListener[0]);
+    }
+
+    /**
+     * Returns the HandlerList's listeners which aren't called as stages.
+     * Bukkit bakes a new array whenever the HandlerList changes, so the filtered array is kept until then.
+     */
+    private RegisteredListener[] getOtherListeners() {
+        RegisteredListener[] registered = handlers.getRegisteredListeners();
+        OtherListeners other = otherListeners;
+
+        if (other.registered == registered) {
+            return other.listeners;
+        }
+
+        synchronized (this) {
+            List<RegisteredListener> listeners = new ArrayList<>(registered.length);
+
+            for (RegisteredListener listener : registered) {
+                if (!adopted.contains(listener.getListener())) {
+                    listeners.add(listener);
+                }
+            }
+
+            other = new OtherListeners(registered, listeners.toArray(new RegisteredListener[0]));
+            otherListeners = other;
+        }
+
+        return other.listeners;
+    }
+
+    /**
+     * Calls the event. Handlers of other listeners registered in the event's HandlerList
+     * are called together with the pipeline's stages, according to their priority.
+     *
+     * @param event Event to call
+     */
+    public void call(Event event) {
+        Stage[] stages = this.stages;
+        RegisteredListener[] listeners = getOtherListeners();
+
+        if (listeners.length == 0) {
+            for (Stage stage : stages) {
+                stage.call(event);
+            }
+            return;
+        }
+
+        int stageIndex = 0;
+
+        for (RegisteredListener listener : listeners) {
+            while (stageIndex < stages.length && stages[stageIndex].priority.getSlot() <= listener.getPriority().getSlot()) {
+                stages[stageIndex++].call(event);
+            }
+
+            if (!listener.getPlugin().isEnabled()) {
+                continue;
+            }
+
+            try {
+                listener.callEvent(event);
+            } catch (EventException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                listener.getPlugin().getLogger().log(Level.SEVERE, "Could not pass event " + event.getEventName() + " to " + listener.getPlugin().getDescription().getFullName(), cause);
+            } catch (Throwable t) {
+                listener.getPlugin().getLogger().log(Level.SEVERE, "Could not pass event " + event.getEventName() + " to " + listener.getPlugin().getDescription().getFullName(), t);
+            }
+        }
+
+        while (stageIndex < stages.length) {
+            stages[stageIndex++].call(event);
+        }
+    }
+
+    private static class OtherListeners {
+        private final RegisteredListener[] registered;
+        private final RegisteredListener[] listeners;
+
+        private OtherListeners(RegisteredListener[] registered, RegisteredListener[] listeners) {
+            this.registered = registered;
+            this.listeners = listeners;
+        }
+    }
+
+    private static class Stage {
+        private final MethodHandle handle;
+        private final EventPriority priority;
+        private final boolean ignoreCancelled;
+        private final Plugin plugin;
+        private final Histogram durations;
+
+        private Stage(MethodHandle handle, EventPriority priority, boolean ignoreCancelled, Plugin plugin, Histogram durations) {
+            this.handle = handle;
+            this.priority = priority;
+            this.ignoreCancelled = ignoreCancelled;
+            this.plugin = plugin;
+            this.durations = durations;
+        }
+
+        private void call(Event event) {
+            if (ignoreCancelled && event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
+                return;
+            }
+
+            long start = StageMetrics.isEnabled() ? System.nanoTime() : 0;
+
+            try {
+                handle.invokeExact(event);
+            } catch (Throwable t) {
+                plugin.getLogger().log(Level.SEVERE, "Could not pass event " + event.getEventName() + " to " + plugin.getDescription().getFullName(), t);
+            }
+
+            if (start != 0) {
+                durations.record(System.nanoTime() - start);
+            }
+        }
+    }
+}
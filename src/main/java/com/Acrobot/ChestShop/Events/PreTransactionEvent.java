@@ -1,6 +1,7 @@
 package com.Acrobot.ChestShop.Events;
 
 import com.Acrobot.ChestShop.Database.Account;
+import com.Acrobot.ChestShop.Economy.Money;
 import com.Acrobot.ChestShop.UUIDs.NameManager;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
@@ -32,11 +33,11 @@ public class PreTransactionEvent extends Event {
     private Inventory clientInventory;
 
     private ItemStack[] items;
-    private double price;
+    private Money price;
 
     private TransactionOutcome transactionOutcome = TRANSACTION_SUCCESFUL;
 
-    public PreTransactionEvent(Inventory ownerInventory, Inventory clientInventory, ItemStack[] items, double price, Player client, Account ownerAccount, Sign sign, TransactionType type) {
+    public PreTransactionEvent(Inventory ownerInventory, Inventory clientInventory, ItemStack[] items, Money price, Player client, Account ownerAccount, Sign sign, TransactionType type) {
         this.ownerInventory = ownerInventory;
         this.clientInventory = (clientInventory == null ? client.getInventory() : clientInventory);
 
@@ -50,6 +51,14 @@ public class PreTransactionEvent extends Event {
         this.transactionType = type;
     }
 
+    /**
+     * @deprecated Use {@link #PreTransactionEvent(Inventory, Inventory, ItemStack[], Money, Player, Account, Sign, TransactionType)}
+     */
+    @Deprecated
+    public PreTransactionEvent(Inventory ownerInventory, Inventory clientInventory, ItemStack[] items, double price, Player client, Account ownerAccount, Sign sign, TransactionType type) {
+        this(ownerInventory, clientInventory, items, Money.valueOf(price), client, ownerAccount, sign, type);
+    }
+
     /**
      * @return Shop's sign
      */
@@ -60,7 +69,7 @@ public class PreTransactionEvent extends Event {
     /**
      * @return Total price of the items
      */
-    public double getPrice() {
+    public Money getExactPrice() {
         return price;
     }
 
@@ -69,10 +78,30 @@ public class PreTransactionEvent extends Event {
      *
      * @param price Price of the items
      */
-    public void setPrice(double price) {
+    public void setExactPrice(Money price) {
         this.price = price;
     }
 
+    /**
+     * @return Total price of the items
+     * @deprecated Use {@link #getExactPrice()}
+     */
+    @Deprecated
+    public double getPrice() {
+        return price.doubleValue();
+    }
+
+    /**
+     * Sets the price of the items
+     *
+     * @param price Price of the items
+     * @deprecated Use {@link #setExactPrice(Money)}
+     */
+    @Deprecated
+    public void setPrice(double price) {
+        this.price = Money.valueOf(price);
+    }
+
     /**
      * Sets the stock
      *
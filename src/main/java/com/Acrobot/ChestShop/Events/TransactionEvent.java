@@ -1,6 +1,7 @@
 package com.Acrobot.ChestShop.Events;
 
 import com.Acrobot.ChestShop.Database.Account;
+import com.Acrobot.ChestShop.Economy.Money;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.block.Sign;
@@ -27,7 +28,7 @@ public class TransactionEvent extends Event implements Cancellable {
     private final Account ownerAccount;
 
     private final ItemStack[] stock;
-    private final double price;
+    private final Money price;
 
     private final Sign sign;
 
@@ -43,12 +44,12 @@ public class TransactionEvent extends Event implements Cancellable {
         this.ownerAccount = event.getOwnerAccount();
 
         this.stock = event.getStock();
-        this.price = event.getPrice();
+        this.price = event.getExactPrice();
 
         this.sign = sign;
     }
 
-    public TransactionEvent(TransactionType type, Inventory ownerInventory, Inventory clientInventory, Player client, Account ownerAccount, ItemStack[] stock, double price, Sign sign) {
+    public TransactionEvent(TransactionType type, Inventory ownerInventory, Inventory clientInventory, Player client, Account ownerAccount, ItemStack[] stock, Money price, Sign sign) {
         this.type = type;
 
         this.ownerInventory = ownerInventory;
@@ -63,6 +64,14 @@ public class TransactionEvent extends Event implements Cancellable {
         this.sign = sign;
     }
 
+    /**
+     * @deprecated Use {@link #TransactionEvent(TransactionType, Inventory, Inventory, Player, Account, ItemStack[], Money, Sign)}
+     */
+    @Deprecated
+    public TransactionEvent(TransactionType type, Inventory ownerInventory, Inventory clientInventory, Player client, Account ownerAccount, ItemStack[] stock, double price, Sign sign) {
+        this(type, ownerInventory, clientInventory, client, ownerAccount, stock, Money.valueOf(price), sign);
+    }
+
     /**
      * @return Type of the transaction
      */
@@ -117,10 +126,19 @@ public class TransactionEvent extends Event implements Cancellable {
     /**
      * @return Total price of the items
      */
-    public double getPrice() {
+    public Money getExactPrice() {
         return price;
     }
 
+    /**
+     * @return Total price of the items
+     * @deprecated Use {@link #getExactPrice()}
+     */
+    @Deprecated
+    public double getPrice() {
+        return price.doubleValue();
+    }
+
     /**
      * @return Shop's sign
      */
@@ -3,6 +3,7 @@ package com.Acrobot.ChestShop.Listeners.Block.Break;
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Permission;
 import com.Acrobot.ChestShop.Signs.ChestShopSign;
+import com.Acrobot.ChestShop.Signs.ShopIndex;
 import com.Acrobot.ChestShop.Utils.uBlock;
 import org.bukkit.block.Block;
 import org.bukkit.block.Sign;
@@ -12,6 +13,8 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.entity.EntityExplodeEvent;
 
+import java.util.Iterator;
+
 /**
  * @author Acrobot
  */
@@ -29,11 +32,29 @@ public class ChestBreak implements Listener {
             return;
         }
 
-        for (Block block : event.blockList()) {
-            if (!canBeBroken(block, null)) {
+        ShopIndex.WorldIndex index = null;
+
+        if (Properties.PROTECT_ONLY_INDEXED_SHOPS) {
+            index = ShopIndex.getIndex(event.getLocation().getWorld());
+
+            if (index == null) {
+                return;
+            }
+        }
+
+        for (Iterator<Block> iterator = event.blockList().iterator(); iterator.hasNext(); ) {
+            Block block = iterator.next();
+
+            if ((index != null && !index.isNearSign(block.getX(), block.getY(), block.getZ())) || canBeBroken(block, null)) {
+                continue;
+            }
+
+            if (!Properties.REMOVE_SHOP_BLOCKS_FROM_EXPLOSIONS) {
                 event.setCancelled(true);
                 return;
             }
+
+            iterator.remove();
         }
     }
 
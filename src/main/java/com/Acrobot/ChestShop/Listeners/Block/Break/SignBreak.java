@@ -6,6 +6,7 @@ import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Events.ShopDestroyedEvent;
 import com.Acrobot.ChestShop.Permission;
 import com.Acrobot.ChestShop.Signs.ChestShopSign;
+import com.Acrobot.ChestShop.Signs.ShopIndex;
 import com.Acrobot.ChestShop.UUIDs.NameManager;
 import com.Acrobot.ChestShop.Utils.uBlock;
 import org.bukkit.Material;
@@ -22,12 +23,15 @@ import org.bukkit.event.block.*;
 import org.bukkit.event.entity.EntityExplodeEvent;
 import org.bukkit.material.Directional;
 import org.bukkit.material.PistonBaseMaterial;
-import org.bukkit.metadata.FixedMetadataValue;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static com.Acrobot.Breeze.Utils.BlockUtil.getAttachedBlock;
 import static com.Acrobot.Breeze.Utils.BlockUtil.isSign;
@@ -39,13 +43,27 @@ import static com.Acrobot.ChestShop.Signs.ChestShopSign.NAME_LINE;
  */
 public class SignBreak implements Listener {
     private static final BlockFace[] SIGN_CONNECTION_FACES = {BlockFace.SOUTH, BlockFace.NORTH, BlockFace.EAST, BlockFace.WEST, BlockFace.UP};
-    private static final String METADATA_NAME = "shop_destroyer";
+    private static final long DESTRUCTION_TIMEOUT = TimeUnit.SECONDS.toNanos(1);
+
+    // Shop signs which were allowed to break together with the block they are attached to
+    private static final Map<Block, PendingDestruction> pendingDestructions = new HashMap<>();
 
     @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
     public static void onSign(BlockPhysicsEvent event) {
         Block block = event.getBlock();
 
-        if (!BlockUtil.isSign(block)) {
+        if (pendingDestructions.isEmpty() || !isSign(block)) {
+            return;
+        }
+
+        PendingDestruction destruction = pendingDestructions.get(block);
+
+        if (destruction == null) {
+            return;
+        }
+
+        if (destruction.hasExpired(System.nanoTime())) {
+            pendingDestructions.remove(block);
             return;
         }
 
@@ -53,11 +71,8 @@ public class SignBreak implements Listener {
         Block attachedBlock = BlockUtil.getAttachedBlock(sign);
 
         if (attachedBlock.getType() == Material.AIR && ChestShopSign.isValid(sign)) {
-            if (!block.hasMetadata(METADATA_NAME)) {
-                return;
-            }
-
-            sendShopDestroyedEvent(sign, (Player) block.getMetadata(METADATA_NAME).get(0).value());
+            pendingDestructions.remove(block);
+            sendShopDestroyedEvent(sign, destruction.breaker);
         }
     }
 
@@ -80,22 +95,43 @@ public class SignBreak implements Listener {
 
     @EventHandler(ignoreCancelled = true)
     public static void onBlockPistonExtend(BlockPistonExtendEvent event) {
-        for (Block block : getExtendBlocks(event)) {
-            if (!canBlockBeBroken(block, null)) {
-                event.setCancelled(true);
-                return;
-            }
+        if (!canBlocksBeMoved(event.getBlock(), getExtendBlocks(event))) {
+            event.setCancelled(true);
         }
     }
 
     @EventHandler(ignoreCancelled = true)
     public static void onBlockPistonRetract(BlockPistonRetractEvent event) {
-        for (Block block : getRetractBlocks(event)) {
-            if (!canBlockBeBroken(block, null)) {
-                event.setCancelled(true);
-                return;
+        if (!canBlocksBeMoved(event.getBlock(), getRetractBlocks(event))) {
+            event.setCancelled(true);
+        }
+    }
+
+    private static boolean canBlocksBeMoved(Block piston, List<Block> blocks) {
+        ShopIndex.WorldIndex index = null;
+
+        if (Properties.PROTECT_ONLY_INDEXED_SHOPS) {
+            index = ShopIndex.getIndex(piston.getWorld());
+
+            if (index == null) {
+                return true;
             }
         }
+
+        List<Sign> brokenSigns = new LinkedList<>();
+
+        for (Block block : blocks) {
+            if (index != null && !index.isNearSign(block.getX(), block.getY(), block.getZ())) {
+                continue;
+            }
+
+            if (!addBrokenSigns(block, null, brokenSigns)) {
+                return false;
+            }
+        }
+
+        markAsBroken(brokenSigns, null);
+        return true;
     }
 
     @EventHandler(ignoreCancelled = true)
@@ -104,12 +140,34 @@ public class SignBreak implements Listener {
             return;
         }
 
-        for (Block block : event.blockList()) {
-            if (!canBlockBeBroken(block, null)) {
+        ShopIndex.WorldIndex index = null;
+
+        if (Properties.PROTECT_ONLY_INDEXED_SHOPS) {
+            index = ShopIndex.getIndex(event.getLocation().getWorld());
+
+            if (index == null) {
+                return;
+            }
+        }
+
+        List<Sign> brokenSigns = new LinkedList<>();
+
+        for (Iterator<Block> iterator = event.blockList().iterator(); iterator.hasNext(); ) {
+            Block block = iterator.next();
+
+            if ((index != null && !index.isNearSign(block.getX(), block.getY(), block.getZ())) || addBrokenSigns(block, null, brokenSigns)) {
+                continue;
+            }
+
+            if (!Properties.REMOVE_SHOP_BLOCKS_FROM_EXPLOSIONS) {
                 event.setCancelled(true);
                 return;
             }
+
+            iterator.remove();
         }
+
+        markAsBroken(brokenSigns, null);
     }
 
     @EventHandler(ignoreCancelled = true)
@@ -120,33 +178,58 @@ public class SignBreak implements Listener {
     }
 
     public static boolean canBlockBeBroken(Block block, Player breaker) {
-        List<Sign> attachedSigns = getAttachedSigns(block);
-        List<Sign> brokenBlocks = new LinkedList<Sign>();
+        List<Sign> brokenSigns = new LinkedList<Sign>();
+
+        if (!addBrokenSigns(block, breaker, brokenSigns)) {
+            return false;
+        }
+
+        markAsBroken(brokenSigns, breaker);
+        return true;
+    }
 
-        boolean canBeBroken = true;
+    /**
+     * Checks if the block can be broken without changing anything
+     *
+     * @param block       Block to check
+     * @param breaker     Player breaking the block, or null if it isn't broken by a player
+     * @param brokenSigns List to which the shop signs which would break together with the block are added
+     * @return Can the block be broken?
+     */
+    private static boolean addBrokenSigns(Block block, Player breaker, List<Sign> brokenSigns) {
+        List<Sign> attachedSigns = getAttachedSigns(block);
+        int previousSize = brokenSigns.size();
 
         for (Sign sign : attachedSigns) {
 
-            if (!canBeBroken || !ChestShopSign.isValid(sign)) {
+            if (!ChestShopSign.isValid(sign)) {
                 continue;
             }
 
             if (Properties.TURN_OFF_SIGN_PROTECTION || canDestroyShop(breaker, sign.getLine(NAME_LINE))) {
-                brokenBlocks.add(sign);
+                brokenSigns.add(sign);
             } else {
-                canBeBroken = false;
+                brokenSigns.subList(previousSize, brokenSigns.size()).clear();
+                return false;
             }
         }
 
-        if (!canBeBroken) {
-            return false;
-        }
+        return true;
+    }
 
-        for (Sign sign : brokenBlocks) {
-            sign.setMetadata(METADATA_NAME, new FixedMetadataValue(ChestShop.getPlugin(), breaker));
+    private static void markAsBroken(List<Sign> brokenSigns, Player breaker) {
+        if (brokenSigns.isEmpty()) {
+            return;
         }
 
-        return true;
+        long now = System.nanoTime();
+        pendingDestructions.values().removeIf(destruction -> destruction.hasExpired(now));
+
+        PendingDestruction destruction = new PendingDestruction(breaker, now + DESTRUCTION_TIMEOUT);
+
+        for (Sign sign : brokenSigns) {
+            pendingDestructions.put(sign.getBlock(), destruction);
+        }
     }
 
     private static boolean canDestroyShop(Player player, String name) {
@@ -192,6 +275,20 @@ public class SignBreak implements Listener {
         }
     }
 
+    private static class PendingDestruction {
+        private final Player breaker;
+        private final long expiresAt;
+
+        private PendingDestruction(Player breaker, long expiresAt) {
+            this.breaker = breaker;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean hasExpired(long now) {
+            return now - expiresAt > 0;
+        }
+    }
+
     private static List<Block> getRetractBlocks(BlockPistonRetractEvent event) {
         try {
             return event.getBlocks();
@@ -0,0 +1,60 @@
+package com.Acrobot.ChestShop.Listeners.Block;
+
+import com.Acrobot.ChestShop.Events.ShopCreatedEvent;
+import com.Acrobot.ChestShop.Events.ShopDestroyedEvent;
+import com.Acrobot.ChestShop.Security;
+import org.bukkit.block.Container;
+import org.bukkit.block.Sign;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Makes sure that no remembered protection check outlives a change of the protection
+ *
+ * @author Acrobot
+ */
+public class ProtectionCacheInvalidator implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public static void onShopCreation(ShopCreatedEvent event) {
+        forgetShop(event.getSign(), event.getContainer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public static void onShopDestruction(ShopDestroyedEvent event) {
+        forgetShop(event.getSign(), event.getContainer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onBlockBreak(BlockBreakEvent event) {
+        Security.forgetAccessAround(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public static void onWorldChange(PlayerChangedWorldEvent event) {
+        Security.forgetAccess(event.getPlayer().getUniqueId()); // permissions can be different in every world
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public static void onPlayerQuit(PlayerQuitEvent event) {
+        Security.forgetAccess(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onWorldUnload(WorldUnloadEvent event) {
+        Security.clearAccessCache();
+    }
+
+    private static void forgetShop(Sign sign, Container container) {
+        Security.forgetAccessAround(sign.getBlock());
+
+        if (container != null) {
+            Security.forgetAccessAround(container.getBlock());
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.Acrobot.ChestShop.Listeners.Block;
+
+import com.Acrobot.ChestShop.Events.ShopDestroyedEvent;
+import com.Acrobot.ChestShop.Signs.ChestShopSign;
+import com.Acrobot.ChestShop.Signs.ShopIndex;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.SignChangeEvent;
+import org.bukkit.event.world.ChunkLoadEvent;
+import org.bukkit.event.world.ChunkUnloadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Keeps the shop index up to date
+ *
+ * @author Acrobot
+ */
+public class ShopIndexer implements Listener {
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public static void onSignChange(SignChangeEvent event) {
+        if (ChestShopSign.isValid(event.getLines())) {
+            ShopIndex.add(event.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public static void onShopDestroyed(ShopDestroyedEvent event) {
+        ShopIndex.remove(event.getSign().getBlock());
+    }
+
+    @EventHandler
+    public static void onChunkLoad(ChunkLoadEvent event) {
+        if (!event.isNewChunk()) {
+            ShopIndex.indexChunk(event.getChunk());
+        }
+    }
+
+    @EventHandler(ignoreCancelled = true, priority = EventPriority.MONITOR)
+    public static void onChunkUnload(ChunkUnloadEvent event) {
+        ShopIndex.removeChunk(event.getChunk());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public static void onWorldUnload(WorldUnloadEvent event) {
+        ShopIndex.removeWorld(event.getWorld());
+    }
+}
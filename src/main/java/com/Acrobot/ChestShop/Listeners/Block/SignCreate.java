@@ -5,6 +5,7 @@ import com.Acrobot.Breeze.Utils.StringUtil;
 import com.Acrobot.ChestShop.ChestShop;
 import com.Acrobot.ChestShop.Events.PreShopCreationEvent;
 import com.Acrobot.ChestShop.Events.ShopCreatedEvent;
+import com.Acrobot.ChestShop.Metrics.MetricsRegistry;
 import com.Acrobot.ChestShop.Signs.ChestShopSign;
 import com.Acrobot.ChestShop.Utils.uBlock;
 import org.bukkit.block.Block;
@@ -33,6 +34,7 @@ public class SignCreate implements Listener {
 
         PreShopCreationEvent preEvent = new PreShopCreationEvent(event.getPlayer(), (Sign) signBlock.getState(), line);
         ChestShop.callEvent(preEvent);
+        MetricsRegistry.getCounter("chestshop_shop_creations_total", "outcome", preEvent.getOutcome().name()).increment();
 
         for (byte i = 0; i < event.getLines().length; ++i) {
             event.setLine(i, preEvent.getSignLine(i));
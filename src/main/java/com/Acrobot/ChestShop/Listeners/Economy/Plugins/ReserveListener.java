@@ -16,7 +16,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 
 import javax.annotation.Nullable;
-import java.math.BigDecimal;
 
 /**
  * Represents a Reserve connector
@@ -66,7 +65,7 @@ public class ReserveListener implements Listener {
 
     @EventHandler
     public void onAmountCheck(CurrencyAmountEvent event) {
-        if (!event.getAmount().equals(BigDecimal.ZERO)) {
+        if (!event.getExactAmount().isZero()) {
             return;
         }
         final OfflinePlayer lastSeen = Bukkit.getOfflinePlayer(event.getAccount());
@@ -140,14 +139,14 @@ public class ReserveListener implements Listener {
             return;
         }
 
-        CurrencySubtractEvent currencySubtractEvent = new CurrencySubtractEvent(event.getAmount(), event.getSender(), event.getWorld());
+        CurrencySubtractEvent currencySubtractEvent = new CurrencySubtractEvent(event.getExactAmount(), event.getSender(), event.getWorld());
         onCurrencySubtraction(currencySubtractEvent);
 
         if (!currencySubtractEvent.isSubtracted()) {
             return;
         }
 
-        CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(currencySubtractEvent.getAmount(), event.getReceiver(), event.getWorld());
+        CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(currencySubtractEvent.getExactAmount(), event.getReceiver(), event.getWorld());
         onCurrencyAdd(currencyAddEvent);
 
         event.setTransferred(currencyAddEvent.isAdded());
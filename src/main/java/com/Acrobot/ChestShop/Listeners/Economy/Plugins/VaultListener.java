@@ -1,6 +1,5 @@
 package com.Acrobot.ChestShop.Listeners.Economy.Plugins;
 
-import java.math.BigDecimal;
 
 import javax.annotation.Nullable;
 
@@ -74,7 +73,7 @@ public class VaultListener implements Listener {
 
     @EventHandler
     public void onAmountCheck(CurrencyAmountEvent event) {
-        if (!event.getAmount().equals(BigDecimal.ZERO)) {
+        if (!event.getExactAmount().isZero()) {
             return;
         }
 
@@ -173,14 +172,14 @@ public class VaultListener implements Listener {
             return;
         }
 
-        CurrencySubtractEvent currencySubtractEvent = new CurrencySubtractEvent(event.getAmount(), event.getSender(), event.getWorld());
+        CurrencySubtractEvent currencySubtractEvent = new CurrencySubtractEvent(event.getExactAmount(), event.getSender(), event.getWorld());
         onCurrencySubtraction(currencySubtractEvent);
 
         if (!currencySubtractEvent.isSubtracted()) {
             return;
         }
 
-        CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(currencySubtractEvent.getAmount(), event.getReceiver(), event.getWorld());
+        CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(currencySubtractEvent.getExactAmount(), event.getReceiver(), event.getWorld());
         onCurrencyAdd(currencyAddEvent);
 
         event.setTransferred(currencyAddEvent.isAdded());
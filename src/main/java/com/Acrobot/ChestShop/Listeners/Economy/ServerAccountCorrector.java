@@ -2,13 +2,13 @@ package com.Acrobot.ChestShop.Listeners.Economy;
 
 import com.Acrobot.ChestShop.ChestShop;
 import com.Acrobot.ChestShop.Database.Account;
+import com.Acrobot.ChestShop.Economy.Money;
 import com.Acrobot.ChestShop.Events.Economy.*;
 import com.Acrobot.ChestShop.UUIDs.NameManager;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 /**
@@ -32,7 +32,7 @@ public class ServerAccountCorrector implements Listener {
             return;
         }
 
-        CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(event.getAmount(), target, event.getWorld());
+        CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(event.getExactAmount(), target, event.getWorld());
         ChestShop.callEvent(currencyAddEvent);
 
         event.setAdded(currencyAddEvent.isAdded());
@@ -54,7 +54,7 @@ public class ServerAccountCorrector implements Listener {
             return;
         }
 
-        CurrencySubtractEvent currencySubtractEvent = new CurrencySubtractEvent(event.getAmount(), target, event.getWorld());
+        CurrencySubtractEvent currencySubtractEvent = new CurrencySubtractEvent(event.getExactAmount(), target, event.getWorld());
         ChestShop.callEvent(currencySubtractEvent);
 
         event.setSubtracted(currencySubtractEvent.isSubtracted());
@@ -76,7 +76,7 @@ public class ServerAccountCorrector implements Listener {
             return;
         }
 
-        CurrencyCheckEvent currencyCheckEvent = new CurrencyCheckEvent(event.getAmount(), target, event.getWorld());
+        CurrencyCheckEvent currencyCheckEvent = new CurrencyCheckEvent(event.getExactAmount(), target, event.getWorld());
         ChestShop.callEvent(currencyCheckEvent);
 
         event.hasEnough(currencyCheckEvent.hasEnough());
@@ -106,13 +106,13 @@ public class ServerAccountCorrector implements Listener {
         target = account != null ? account.getUuid() : null;
 
         if (target == null) {
-            event.setAmount(BigDecimal.valueOf(Double.MAX_VALUE));
+            event.setExactAmount(Money.valueOf(Double.MAX_VALUE));
             return;
         }
 
         CurrencyAmountEvent currencyAmountEvent = new CurrencyAmountEvent(target, event.getWorld());
         ChestShop.callEvent(currencyAmountEvent);
 
-        event.setAmount(currencyAmountEvent.getAmount());
+        event.setExactAmount(currencyAmountEvent.getExactAmount());
     }
 }
@@ -2,23 +2,29 @@ package com.Acrobot.ChestShop.Listeners.Economy;
 
 import com.Acrobot.ChestShop.ChestShop;
 import com.Acrobot.ChestShop.Configuration.Properties;
-import com.Acrobot.ChestShop.Economy.Economy;
+import com.Acrobot.ChestShop.Economy.Money;
+import com.Acrobot.ChestShop.Economy.TaxAccumulator;
 import com.Acrobot.ChestShop.Events.Economy.CurrencyAddEvent;
 import com.Acrobot.ChestShop.UUIDs.NameManager;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 
-import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.UUID;
 
 /**
  * @author Acrobot
  */
 public class TaxModule implements Listener {
+    private final TaxAccumulator accumulator;
 
-    private static BigDecimal getTax(BigDecimal price, float taxAmount) {
-        return price.multiply(BigDecimal.valueOf(taxAmount).divide(BigDecimal.valueOf(100), BigDecimal.ROUND_DOWN));
+    public TaxModule(TaxAccumulator accumulator) {
+        this.accumulator = accumulator;
+    }
+
+    private static Money getTax(Money price, int taxAmount) {
+        return price.multiply(taxAmount, 100, RoundingMode.DOWN);
     }
 
     private static boolean isServerAccount(UUID name) {
@@ -26,7 +32,7 @@ public class TaxModule implements Listener {
     }
 
     @EventHandler(priority = EventPriority.LOW)
-    public static void onCurrencyAdd(CurrencyAddEvent event) {
+    public void onCurrencyAdd(CurrencyAddEvent event) {
         if (event.isAdded()) {
             return;
         }
@@ -37,22 +43,26 @@ public class TaxModule implements Listener {
             return;
         }
 
-        float taxAmount = isServerAccount(target) ? Properties.SERVER_TAX_AMOUNT : Properties.TAX_AMOUNT;
+        int taxAmount = isServerAccount(target) ? Properties.SERVER_TAX_AMOUNT : Properties.TAX_AMOUNT;
 
         if (taxAmount == 0) {
             return;
         }
 
-        BigDecimal tax = getTax(event.getAmount(), taxAmount);
+        Money tax = getTax(event.getExactAmount(), taxAmount);
 
         if (NameManager.getServerEconomyAccount() != null) {
-            CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(
-                    tax,
-                    NameManager.getServerEconomyAccount().getUuid(),
-                    event.getWorld());
-            ChestShop.callEvent(currencyAddEvent);
+            if (Properties.TAX_DEPOSIT_INTERVAL > 0) {
+                accumulator.add(tax, event.getWorld());
+            } else {
+                CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(
+                        tax,
+                        NameManager.getServerEconomyAccount().getUuid(),
+                        event.getWorld());
+                ChestShop.callEvent(currencyAddEvent);
+            }
         }
 
-        event.setAmount(event.getAmount().subtract(tax));
+        event.setExactAmount(event.getExactAmount().subtract(tax));
     }
 }
@@ -0,0 +1,118 @@
+package com.Acrobot.ChestShop.Listeners.Item;
+
+import com.Acrobot.ChestShop.Events.ShopDestroyedEvent;
+import com.Acrobot.ChestShop.Signs.ShopStock;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.block.BlockBreakEvent;
+import org.bukkit.event.block.BlockDispenseEvent;
+import org.bukkit.event.block.BlockExplodeEvent;
+import org.bukkit.event.block.BlockPistonExtendEvent;
+import org.bukkit.event.block.BlockPistonRetractEvent;
+import org.bukkit.event.block.BlockPlaceEvent;
+import org.bukkit.event.block.SignChangeEvent;
+import org.bukkit.event.entity.EntityExplodeEvent;
+import org.bukkit.event.inventory.InventoryClickEvent;
+import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.inventory.InventoryDragEvent;
+import org.bukkit.event.inventory.InventoryMoveItemEvent;
+import org.bukkit.event.inventory.InventoryPickupItemEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+import java.util.List;
+
+/**
+ * Makes the shops count their stock again after their containers change
+ *
+ * @author Acrobot
+ */
+public class ShopStockUpdater implements Listener {
+    private static final BlockFace[] CHEST_CONNECTION_FACES = {BlockFace.NORTH, BlockFace.EAST, BlockFace.SOUTH, BlockFace.WEST};
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onInventoryClick(InventoryClickEvent event) {
+        ShopStock.changed(event.getInventory());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onInventoryDrag(InventoryDragEvent event) {
+        ShopStock.changed(event.getInventory());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public static void onInventoryClose(InventoryCloseEvent event) {
+        ShopStock.changed(event.getInventory());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onItemMove(InventoryMoveItemEvent event) {
+        ShopStock.changed(event.getSource());
+        ShopStock.changed(event.getDestination());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onItemPickup(InventoryPickupItemEvent event) {
+        ShopStock.changed(event.getInventory());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onDispense(BlockDispenseEvent event) {
+        ShopStock.changed(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onBlockPlace(BlockPlaceEvent event) {
+        for (BlockFace face : CHEST_CONNECTION_FACES) { // a chest placed next to another one makes a double chest
+            ShopStock.changed(event.getBlock().getRelative(face));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onBlockBreak(BlockBreakEvent event) {
+        ShopStock.changed(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onBlockExplode(BlockExplodeEvent event) {
+        changed(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onEntityExplode(EntityExplodeEvent event) {
+        changed(event.blockList());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onPistonExtend(BlockPistonExtendEvent event) {
+        changed(event.getBlocks());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onPistonRetract(BlockPistonRetractEvent event) {
+        changed(event.getBlocks());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onSignChange(SignChangeEvent event) {
+        ShopStock.forget(event.getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public static void onShopDestroyed(ShopDestroyedEvent event) {
+        ShopStock.forget(event.getSign().getBlock());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onWorldUnload(WorldUnloadEvent event) {
+        ShopStock.clear();
+    }
+
+    private static void changed(List<Block> blocks) {
+        for (Block block : blocks) {
+            ShopStock.changed(block);
+        }
+    }
+}
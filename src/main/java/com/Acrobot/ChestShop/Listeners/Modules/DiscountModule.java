@@ -4,16 +4,22 @@ import com.Acrobot.Breeze.Utils.PriceUtil;
 import com.Acrobot.ChestShop.ChestShop;
 import com.Acrobot.ChestShop.Containers.AdminInventory;
 import com.Acrobot.ChestShop.Events.PreTransactionEvent;
+import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Permission;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 
 import java.io.IOException;
-import java.util.HashSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
 import static com.Acrobot.ChestShop.Events.TransactionEvent.TransactionType.BUY;
 import static com.Acrobot.ChestShop.Signs.ChestShopSign.PRICE_LINE;
@@ -22,11 +28,15 @@ import static com.Acrobot.ChestShop.Signs.ChestShopSign.PRICE_LINE;
  * @author Acrobot
  */
 public class DiscountModule implements Listener {
-    private YamlConfiguration config;
-    private Set<String> groupList = new HashSet<String>();
+    private static final int NO_DISCOUNT = -1;
+
+    private String[] groupPermissions;
+    private double[] multipliers;
+
+    private final Map<UUID, Integer> playerDiscounts = new HashMap<>();
 
     public DiscountModule() {
-        config = YamlConfiguration.loadConfiguration(ChestShop.loadFile("discounts.yml"));
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(ChestShop.loadFile("discounts.yml"));
 
         config.options().header("This file is for discount management. You are able to do that:\n" +
                 "group1: 75\n" +
@@ -40,7 +50,40 @@ public class DiscountModule implements Listener {
             e.printStackTrace();
         }
 
-        groupList = config.getKeys(false);
+        Set<String> groupList = config.getKeys(false);
+        groupPermissions = new String[groupList.size()];
+        multipliers = new double[groupList.size()];
+
+        int index = 0;
+        for (String group : groupList) {
+            groupPermissions[index] = Permission.DISCOUNT + group;
+            multipliers[index] = config.getDouble(group) / 100;
+            index++;
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        if (Properties.PERMISSION_CACHE_TIME > 0) {
+            playerDiscounts.put(event.getPlayer().getUniqueId(), findDiscount(event.getPlayer()));
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        playerDiscounts.remove(event.getPlayer().getUniqueId());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        playerDiscounts.remove(event.getPlayer().getUniqueId());
+    }
+
+    /**
+     * Forgets the discounts of all players, so that changed permissions are seen
+     */
+    public void clearDiscounts() {
+        playerDiscounts.clear();
     }
 
     @EventHandler(priority = EventPriority.LOW)
@@ -55,11 +98,31 @@ public class DiscountModule implements Listener {
             return;
         }
 
-        for (String group : groupList) {
-            if (Permission.has(client, Permission.DISCOUNT + group)) {
-                event.setPrice(event.getPrice() * (config.getDouble(group) / 100));
-                return;
+        int discount = getDiscount(client);
+
+        if (discount != NO_DISCOUNT) {
+            event.setExactPrice(event.getExactPrice().multiply(multipliers[discount]));
+        }
+    }
+
+    private int getDiscount(Player player) {
+        if (Properties.PERMISSION_CACHE_TIME <= 0) {
+            return findDiscount(player);
+        }
+
+        return playerDiscounts.computeIfAbsent(player.getUniqueId(), uuid -> findDiscount(player));
+    }
+
+    /**
+     * @return Index of the first group the player belongs to, or NO_DISCOUNT
+     */
+    private int findDiscount(Player player) {
+        for (int i = 0; i < groupPermissions.length; i++) {
+            if (Permission.has(player, groupPermissions[i])) {
+                return i;
             }
         }
+
+        return NO_DISCOUNT;
     }
 }
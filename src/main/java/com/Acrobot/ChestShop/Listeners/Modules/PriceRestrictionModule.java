@@ -1,11 +1,9 @@
 package com.Acrobot.ChestShop.Listeners.Modules;
 
 import com.Acrobot.Breeze.Utils.MaterialUtil;
-import com.Acrobot.Breeze.Utils.NumberUtil;
 import com.Acrobot.Breeze.Utils.PriceUtil;
 import com.Acrobot.ChestShop.ChestShop;
 import com.Acrobot.ChestShop.Events.PreShopCreationEvent;
-import org.bukkit.Bukkit;
 import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -15,6 +13,9 @@ import org.bukkit.inventory.ItemStack;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.logging.Level;
 
 import static com.Acrobot.ChestShop.Events.PreShopCreationEvent.CreationOutcome.INVALID_PRICE;
@@ -25,13 +26,23 @@ import static com.Acrobot.ChestShop.Signs.ChestShopSign.PRICE_LINE;
  * @author Acrobot
  */
 public class PriceRestrictionModule implements Listener {
-    private YamlConfiguration configuration;
     private static final double INVALID_PATH = Double.MIN_VALUE;
+    private static final String[] SECTIONS = {"min.buy_price", "max.buy_price", "min.sell_price", "max.sell_price"};
+    private static final int MIN_BUY = 0, MAX_BUY = 1, MIN_SELL = 2, MAX_SELL = 3;
+
+    private static volatile Map<Material, PriceLimits> limits = Collections.emptyMap();
 
     public PriceRestrictionModule() {
+        reload();
+    }
+
+    /**
+     * Loads priceLimits.yml again and replaces the price limits with the loaded ones at once
+     */
+    public static void reload() {
         File file = new File(ChestShop.getFolder(), "priceLimits.yml");
 
-        configuration = YamlConfiguration.loadConfiguration(file);
+        YamlConfiguration configuration = YamlConfiguration.loadConfiguration(file);
 
         configuration.options().header("In this file you can configure maximum and minimum prices for items (when creating a shop).");
 
@@ -55,10 +66,9 @@ public class PriceRestrictionModule implements Listener {
             Material testMat = Material.matchMaterial("1");
             if (testMat != null) {
                 ChestShop.getBukkitLogger().log(Level.INFO, "Converting numeric IDs in priceLimits.yml to Material names...");
-                convertToMaterial("max.buy_price");
-                convertToMaterial("max.sell_price");
-                convertToMaterial("min.buy_price");
-                convertToMaterial("min.sell_price");
+                for (String section : SECTIONS) {
+                    convertToMaterial(configuration, section);
+                }
                 configuration.set("uses_materials", true);
                 try {
                     configuration.save(file);
@@ -72,9 +82,11 @@ public class PriceRestrictionModule implements Listener {
                 ChestShop.getBukkitLogger().log(Level.WARNING, "If you want to manually convert it and hide this message set the uses_materials key to true.");
             }
         }
+
+        limits = compile(configuration);
     }
 
-    private void convertToMaterial(String sectionPath) {
+    private static void convertToMaterial(YamlConfiguration configuration, String sectionPath) {
         ConfigurationSection section = configuration.getConfigurationSection(sectionPath);
         if (section != null) {
             for (String typeId : section.getKeys(false)) {
@@ -87,43 +99,116 @@ public class PriceRestrictionModule implements Listener {
         }
     }
 
+    private static Map<Material, PriceLimits> compile(YamlConfiguration configuration) {
+        Map<Material, PriceLimits> compiled = new EnumMap<>(Material.class);
+
+        for (int limit = 0; limit < SECTIONS.length; limit++) {
+            ConfigurationSection section = configuration.getConfigurationSection(SECTIONS[limit]);
+            if (section == null) {
+                continue;
+            }
+
+            for (String itemType : section.getKeys(false)) {
+                Material material = Material.getMaterial(itemType.toUpperCase());
+                double value = section.getDouble(itemType, INVALID_PATH);
+
+                if (material == null || !material.toString().toLowerCase().equals(itemType) || value == INVALID_PATH) {
+                    continue;
+                }
+
+                compiled.computeIfAbsent(material, m -> new PriceLimits()).limits[limit] = value;
+            }
+        }
+
+        return Collections.unmodifiableMap(compiled);
+    }
+
+    /**
+     * @param material Material of the item
+     * @return Price limits of the material, or null if it has none
+     */
+    public static PriceLimits getLimits(Material material) {
+        return limits.get(material);
+    }
+
+    /**
+     * @return All price limits, by material
+     */
+    public static Map<Material, PriceLimits> getLimits() {
+        return limits;
+    }
+
     @EventHandler
     public void onPreShopCreation(PreShopCreationEvent event) {
+        if (limits.isEmpty()) {
+            return;
+        }
+
         ItemStack material = MaterialUtil.getItem(event.getSignLine(ITEM_LINE));
 
         if (material == null) {
             return;
         }
 
-        String itemType = material.getType().toString().toLowerCase();
+        PriceLimits itemLimits = getLimits(material.getType());
+
+        if (itemLimits == null) {
+            return;
+        }
+
         int amount = material.getAmount();
 
         if (PriceUtil.hasBuyPrice(event.getSignLine(PRICE_LINE))) {
-            double buyPrice = PriceUtil.getBuyPrice(event.getSignLine(PRICE_LINE));
-
-            if (isValid("min.buy_price." + itemType) && buyPrice < (configuration.getDouble("min.buy_price." + itemType) / amount)) {
+            if (!itemLimits.isBuyPriceAllowed(PriceUtil.getBuyPrice(event.getSignLine(PRICE_LINE)), amount)) {
                 event.setOutcome(INVALID_PRICE);
             }
+        }
 
-            if (isValid("max.buy_price." + itemType) && buyPrice > (configuration.getDouble("max.buy_price." + itemType) / amount)) {
+        if (PriceUtil.hasSellPrice(event.getSignLine(PRICE_LINE))) {
+            if (!itemLimits.isSellPriceAllowed(PriceUtil.getSellPrice(event.getSignLine(PRICE_LINE)), amount)) {
                 event.setOutcome(INVALID_PRICE);
             }
         }
+    }
 
-        if (PriceUtil.hasSellPrice(event.getSignLine(PRICE_LINE))) {
-            double sellPrice = PriceUtil.getSellPrice(event.getSignLine(PRICE_LINE));
+    /**
+     * Minimum and maximum prices of one material. A limit which isn't set is NaN.
+     */
+    public static class PriceLimits {
+        private final double[] limits = {Double.NaN, Double.NaN, Double.NaN, Double.NaN};
 
-            if (isValid("min.sell_price." + itemType) && sellPrice < (configuration.getDouble("min.sell_price." + itemType) / amount)) {
-                event.setOutcome(INVALID_PRICE);
-            }
+        public double getMinBuyPrice() {
+            return limits[MIN_BUY];
+        }
 
-            if (isValid("max.sell_price." + itemType) && sellPrice > (configuration.getDouble("max.sell_price." + itemType) / amount)) {
-                event.setOutcome(INVALID_PRICE);
-            }
+        public double getMaxBuyPrice() {
+            return limits[MAX_BUY];
+        }
+
+        public double getMinSellPrice() {
+            return limits[MIN_SELL];
         }
-    }
 
-    private boolean isValid(String path) {
-        return configuration.getDouble(path, INVALID_PATH) != INVALID_PATH;
+        public double getMaxSellPrice() {
+            return limits[MAX_SELL];
+        }
+
+        /**
+         * @param price  Buy price of the shop
+         * @param amount Amount of items the price is for
+         * @return Is the price within the limits?
+         */
+        public boolean isBuyPriceAllowed(double price, int amount) {
+            return !(price < limits[MIN_BUY] / amount) && !(price > limits[MAX_BUY] / amount);
+        }
+
+        /**
+         * @param price  Sell price of the shop
+         * @param amount Amount of items the price is for
+         * @return Is the price within the limits?
+         */
+        public boolean isSellPriceAllowed(double price, int amount) {
+            return !(price < limits[MIN_SELL] / amount) && !(price > limits[MAX_SELL] / amount);
+        }
     }
 }
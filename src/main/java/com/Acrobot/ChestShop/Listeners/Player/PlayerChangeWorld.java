@@ -0,0 +1,20 @@
+package com.Acrobot.ChestShop.Listeners.Player;
+
+import com.Acrobot.ChestShop.Permission;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+
+/**
+ * Permissions can be different in every world, so the remembered ones are forgotten
+ *
+ * @author Acrobot
+ */
+public class PlayerChangeWorld implements Listener {
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public static void onWorldChange(PlayerChangedWorldEvent event) {
+        Permission.forgetDecisions(event.getPlayer().getUniqueId());
+    }
+}
@@ -5,16 +5,20 @@ import com.Acrobot.ChestShop.Configuration.Messages;
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Containers.AdminInventory;
 import com.Acrobot.ChestShop.Database.Account;
+import com.Acrobot.ChestShop.Economy.Money;
 import com.Acrobot.ChestShop.Events.Economy.AccountCheckEvent;
 import com.Acrobot.ChestShop.Events.PreTransactionEvent;
+import com.Acrobot.ChestShop.Events.PreTransactionEvent.TransactionOutcome;
 import com.Acrobot.ChestShop.Events.TransactionEvent;
+import com.Acrobot.ChestShop.Metrics.Histogram;
+import com.Acrobot.ChestShop.Metrics.MetricsRegistry;
+import com.Acrobot.ChestShop.Metrics.StageMetrics;
 import com.Acrobot.ChestShop.Permission;
 import com.Acrobot.ChestShop.Plugins.ChestShop;
 import com.Acrobot.ChestShop.Security;
 import com.Acrobot.ChestShop.Signs.ChestShopSign;
 import com.Acrobot.ChestShop.UUIDs.NameManager;
 import com.Acrobot.ChestShop.Utils.uBlock;
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.GameMode;
 import org.bukkit.Material;
@@ -31,6 +35,8 @@ import org.bukkit.event.player.PlayerInteractEvent;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import static com.Acrobot.Breeze.Utils.BlockUtil.isSign;
 import static com.Acrobot.ChestShop.Events.TransactionEvent.TransactionType;
 import static com.Acrobot.ChestShop.Events.TransactionEvent.TransactionType.BUY;
@@ -46,6 +52,17 @@ import static org.bukkit.event.block.Action.RIGHT_CLICK_BLOCK;
  * @author Acrobot
  */
 public class PlayerInteract implements Listener {
+    private static final Histogram PREPARATION_DURATIONS = StageMetrics.getHistogram("PlayerInteract preparation");
+    private static final Histogram TRANSACTION_DURATIONS = StageMetrics.getHistogram("PlayerInteract transaction");
+
+    private static final LongAdder[] TRANSACTION_OUTCOMES = new LongAdder[TransactionOutcome.values().length];
+    private static final LongAdder FAILED_TRANSACTIONS = MetricsRegistry.getCounter("chestshop_transactions_failed_total");
+
+    static {
+        for (TransactionOutcome outcome : TransactionOutcome.values()) {
+            TRANSACTION_OUTCOMES[outcome.ordinal()] = MetricsRegistry.getCounter("chestshop_transactions_total", "outcome", outcome.name());
+        }
+    }
 
     @EventHandler(priority = EventPriority.LOW, ignoreCancelled = true)
     public static void onInteract(PlayerInteractEvent event) {
@@ -125,16 +142,32 @@ public class PlayerInteract implements Listener {
         }
 
         //Bukkit.getLogger().info("ChestShop - DEBUG - "+block.getWorld().getName()+": "+block.getLocation().getBlockX()+", "+block.getLocation().getBlockY()+", "+block.getLocation().getBlockZ());
+        long start = StageMetrics.isEnabled() ? System.nanoTime() : 0;
+
         PreTransactionEvent pEvent = preparePreTransactionEvent(sign, player, action);
+
+        if (start != 0) {
+            PREPARATION_DURATIONS.record(System.nanoTime() - start);
+        }
+
         if (pEvent == null)
             return;
 
-        Bukkit.getPluginManager().callEvent(pEvent);
-        if (pEvent.isCancelled())
-            return;
+        com.Acrobot.ChestShop.ChestShop.callEvent(pEvent);
+        TRANSACTION_OUTCOMES[pEvent.getTransactionOutcome().ordinal()].increment();
 
-        TransactionEvent tEvent = new TransactionEvent(pEvent, sign);
-        Bukkit.getPluginManager().callEvent(tEvent);
+        if (!pEvent.isCancelled()) {
+            TransactionEvent tEvent = new TransactionEvent(pEvent, sign);
+            com.Acrobot.ChestShop.ChestShop.callEvent(tEvent);
+
+            if (tEvent.isCancelled()) {
+                FAILED_TRANSACTIONS.increment();
+            }
+        }
+
+        if (start != 0) {
+            TRANSACTION_DURATIONS.record(System.nanoTime() - start);
+        }
     }
 
     private static PreTransactionEvent preparePreTransactionEvent(Sign sign, Player player, Action action) {
@@ -154,7 +187,7 @@ public class PlayerInteract implements Listener {
         // check if player exists in economy
         if (!adminShop) {
             AccountCheckEvent event = new AccountCheckEvent(account.getUuid(), player.getWorld());
-            Bukkit.getPluginManager().callEvent(event);
+            com.Acrobot.ChestShop.ChestShop.callEvent(event);
             if(!event.hasAccount()) {
                 player.sendMessage(Messages.prefix(Messages.NO_ECONOMY_ACCOUNT));
                 return null;
@@ -162,10 +195,10 @@ public class PlayerInteract implements Listener {
         }
 
         Action buy = Properties.REVERSE_BUTTONS ? LEFT_CLICK_BLOCK : RIGHT_CLICK_BLOCK;
-        double price = (action == buy ? PriceUtil.getBuyPrice(prices) : PriceUtil.getSellPrice(prices));
+        Money price = Money.valueOf(action == buy ? PriceUtil.getBuyPrice(prices) : PriceUtil.getSellPrice(prices));
 
         Container shopBlock = uBlock.findConnectedContainer(sign);
-        Inventory ownerInventory = (adminShop ? new AdminInventory() : shopBlock != null ? shopBlock.getInventory() : null);
+        Inventory ownerInventory = (adminShop ? AdminInventory.getInstance() : shopBlock != null ? shopBlock.getInventory() : null);
 
         ItemStack item = MaterialUtil.getItem(material);
         if (item == null || !NumberUtil.isInteger(quantity)) {
@@ -179,10 +212,10 @@ public class PlayerInteract implements Listener {
             amount = 1;
         }
 
-        if (Properties.SHIFT_SELLS_IN_STACKS && player.isSneaking() && price != PriceUtil.NO_PRICE && isAllowedForShift(action == buy)) {
+        if (Properties.SHIFT_SELLS_IN_STACKS && player.isSneaking() && price.doubleValue() != PriceUtil.NO_PRICE && isAllowedForShift(action == buy)) {
             int newAmount = getStackAmount(item, ownerInventory, player, action);
             if (newAmount > 0) {
-                price = (price / amount) * newAmount;
+                price = price.portion(newAmount, amount);
                 amount = newAmount;
             }
         }
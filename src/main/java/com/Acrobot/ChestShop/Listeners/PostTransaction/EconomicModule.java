@@ -7,8 +7,6 @@ import com.Acrobot.ChestShop.Events.TransactionEvent;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 
-import java.math.BigDecimal;
-
 import static com.Acrobot.ChestShop.Events.TransactionEvent.TransactionType.BUY;
 import static com.Acrobot.ChestShop.Events.TransactionEvent.TransactionType.SELL;
 
@@ -24,7 +22,7 @@ public class EconomicModule implements Listener {
         }
 
         CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(
-                BigDecimal.valueOf(event.getPrice()),
+                event.getExactPrice(),
                 event.getOwnerAccount().getUuid(),
                 event.getSign().getWorld());
         ChestShop.callEvent(currencyAddEvent);
@@ -33,12 +31,12 @@ public class EconomicModule implements Listener {
             return;
         }
 
-        CurrencySubtractEvent currencySubtractEvent = new CurrencySubtractEvent(BigDecimal.valueOf(event.getPrice()), event.getClient());
+        CurrencySubtractEvent currencySubtractEvent = new CurrencySubtractEvent(event.getExactPrice(), event.getClient());
         ChestShop.callEvent(currencySubtractEvent);
         if (!currencySubtractEvent.isSubtracted()) {
             event.setCancelled(true);
             CurrencySubtractEvent currencyResetEvent = new CurrencySubtractEvent(
-                    BigDecimal.valueOf(event.getPrice()),
+                    event.getExactPrice(),
                     event.getOwnerAccount().getUuid(),
                     event.getSign().getWorld());
             ChestShop.callEvent(currencyResetEvent);
@@ -52,7 +50,7 @@ public class EconomicModule implements Listener {
         }
 
         CurrencySubtractEvent currencySubtractEvent = new CurrencySubtractEvent(
-                BigDecimal.valueOf(event.getPrice()),
+                event.getExactPrice(),
                 event.getOwnerAccount().getUuid(),
                 event.getSign().getWorld());
         ChestShop.callEvent(currencySubtractEvent);
@@ -61,12 +59,12 @@ public class EconomicModule implements Listener {
             return;
         }
 
-        CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(BigDecimal.valueOf(event.getPrice()), event.getClient());
+        CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(event.getExactPrice(), event.getClient());
         ChestShop.callEvent(currencyAddEvent);
         if (!currencyAddEvent.isAdded()) {
             event.setCancelled(true);
             CurrencyAddEvent currencyResetEvent = new CurrencyAddEvent(
-                    BigDecimal.valueOf(event.getPrice()),
+                    event.getExactPrice(),
                     event.getOwnerAccount().getUuid(),
                     event.getSign().getWorld());
             ChestShop.callEvent(currencyResetEvent);
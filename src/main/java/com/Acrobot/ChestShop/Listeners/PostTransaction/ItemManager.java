@@ -3,6 +3,7 @@ package com.Acrobot.ChestShop.Listeners.PostTransaction;
 import com.Acrobot.Breeze.Utils.InventoryUtil;
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Events.TransactionEvent;
+import com.Acrobot.ChestShop.Signs.ShopStock;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
@@ -22,7 +23,13 @@ public class ItemManager implements Listener {
             return;
         }
 
-        removeItems(event.getOwnerInventory(), event.getStock());
+        for (ItemStack item : event.getStock()) {
+            int amount = item.getAmount();
+            int left = InventoryUtil.remove(item, event.getOwnerInventory());
+
+            ShopStock.removed(event.getSign(), event.getOwnerInventory(), item, amount - left);
+        }
+
         addItems(event.getClientInventory(), event.getStock());
 
         event.getClient().updateInventory();
@@ -36,6 +43,7 @@ public class ItemManager implements Listener {
 
         removeItems(event.getClientInventory(), event.getStock());
         addItems(event.getOwnerInventory(), event.getStock());
+        ShopStock.changed(event.getOwnerInventory());
 
         event.getClient().updateInventory();
     }
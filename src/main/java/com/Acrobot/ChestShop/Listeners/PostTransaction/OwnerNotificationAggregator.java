@@ -0,0 +1,149 @@
+package com.Acrobot.ChestShop.Listeners.PostTransaction;
+
+import com.Acrobot.Breeze.Utils.InventoryUtil;
+import com.Acrobot.ChestShop.Commands.Toggle;
+import com.Acrobot.ChestShop.Configuration.Messages;
+import com.Acrobot.ChestShop.Configuration.Properties;
+import com.Acrobot.ChestShop.Economy.Money;
+import com.Acrobot.ChestShop.Events.TransactionEvent;
+import com.Acrobot.ChestShop.Events.TransactionEvent.TransactionType;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.entity.Player;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+import static com.Acrobot.ChestShop.Listeners.PostTransaction.TransactionMessageSender.*;
+
+/**
+ * Collects the transactions of every shop and tells their owners about them in one message.
+ * Must only be used from the main thread.
+ *
+ * @author Acrobot
+ */
+public class OwnerNotificationAggregator {
+    private static Map<Key, Summary> summaries = new LinkedHashMap<>();
+
+    /**
+     * Remembers the transaction until the next flush
+     *
+     * @param event Transaction
+     */
+    public static void add(TransactionEvent event) {
+        Key key = new Key(event.getOwnerAccount().getUuid(), event.getSign().getLocation(), event.getTransactionType());
+        Summary summary = summaries.get(key);
+
+        if (summary == null) {
+            summary = new Summary(event.getOwnerAccount().getName());
+            summaries.put(key, summary);
+        }
+
+        summary.add(event);
+    }
+
+    /**
+     * Sends one message per shop to the owners of the shops with transactions since the last flush
+     */
+    public static void flush() {
+        if (summaries.isEmpty()) {
+            return;
+        }
+
+        Map<Key, Summary> toSend = summaries;
+        summaries = new LinkedHashMap<>();
+
+        Map<String, Boolean> ignoring = new HashMap<>();
+
+        for (Map.Entry<Key, Summary> entry : toSend.entrySet()) {
+            Key key = entry.getKey();
+            Summary summary = entry.getValue();
+
+            if (ignoring.computeIfAbsent(summary.ownerName, Toggle::isIgnoring)) {
+                continue;
+            }
+
+            Player owner = Bukkit.getPlayer(key.owner);
+
+            if (owner != null) {
+                summary.send(owner, key);
+            }
+        }
+    }
+
+    private static class Key {
+        private final UUID owner;
+        private final Location location;
+        private final TransactionType type;
+
+        private Key(UUID owner, Location location, TransactionType type) {
+            this.owner = owner;
+            this.location = location;
+            this.type = type;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Key)) {
+                return false;
+            }
+
+            Key other = (Key) o;
+            return owner.equals(other.owner) && location.equals(other.location) && type == other.type;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(owner, location, type);
+        }
+    }
+
+    private static class Summary {
+        private final String ownerName;
+        private final Set<String> clients = new HashSet<>();
+        private final List<ItemStack> items = new ArrayList<>();
+        private Money price = Money.ZERO;
+        private String lastClient;
+
+        private Summary(String ownerName) {
+            this.ownerName = ownerName;
+        }
+
+        private void add(TransactionEvent event) {
+            lastClient = event.getClient().getName();
+            clients.add(lastClient);
+
+            for (ItemStack item : event.getStock()) {
+                items.add(item.clone());
+            }
+
+            price = price.add(event.getExactPrice());
+        }
+
+        private void send(Player owner, Key key) {
+            ItemStack[] stock = InventoryUtil.mergeSimilarStacks(items.toArray(new ItemStack[items.size()]));
+            MessageValues values = new MessageValues(stock, price, key.location);
+            boolean buy = key.type == TransactionType.BUY;
+
+            if (clients.size() == 1) {
+                sendMessage(owner, buy ? Messages.SOMEBODY_BOUGHT_FROM_YOUR_SHOP : Messages.SOMEBODY_SOLD_TO_YOUR_SHOP,
+                        values, buy ? BUYER : SELLER, lastClient);
+                return;
+            }
+
+            values.with(PLAYERS, String.valueOf(clients.size()))
+                    .with(SECONDS, String.valueOf(Properties.OWNER_NOTIFICATION_INTERVAL));
+
+            sendMessage(owner, buy ? Messages.SOMEBODY_BOUGHT_FROM_YOUR_SHOP_SUMMARY : Messages.SOMEBODY_SOLD_TO_YOUR_SHOP_SUMMARY,
+                    values, buy ? BUYER : SELLER, lastClient);
+        }
+    }
+}
@@ -2,9 +2,11 @@ package com.Acrobot.ChestShop.Listeners.PostTransaction;
 
 import com.Acrobot.Breeze.Utils.MaterialUtil;
 import com.Acrobot.ChestShop.Commands.Toggle;
+import com.Acrobot.ChestShop.Configuration.MessageTemplate;
 import com.Acrobot.ChestShop.Configuration.Messages;
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Economy.Economy;
+import com.Acrobot.ChestShop.Economy.Money;
 import com.Acrobot.ChestShop.Events.TransactionEvent;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
@@ -12,11 +14,15 @@ import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
+import org.bukkit.inventory.ItemStack;
 
 /**
  * @author Acrobot
  */
 public class TransactionMessageSender implements Listener {
+    private static final String[] PLACEHOLDERS = {"price", "world", "x", "y", "z", "owner", "buyer", "seller", "players", "seconds", "item"};
+    static final int PRICE = 0, WORLD = 1, X = 2, Y = 3, Z = 4, OWNER = 5, BUYER = 6, SELLER = 7, PLAYERS = 8, SECONDS = 9, ITEM = 10;
+
     @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
     public static void onTransaction(TransactionEvent event) {
         if (event.getTransactionType() == TransactionEvent.TransactionType.BUY) {
@@ -30,53 +36,109 @@ public class TransactionMessageSender implements Listener {
         String ownerName = event.getOwnerAccount().getName();
 
         Player player = event.getClient();
+        MessageValues values = new MessageValues(event.getStock(), event.getExactPrice(), event.getSign().getLocation());
 
         if (Properties.SHOW_TRANSACTION_INFORMATION_CLIENT) {
-            sendMessage(player, Messages.YOU_BOUGHT_FROM_SHOP, event, "owner", ownerName);
+            sendMessage(player, Messages.YOU_BOUGHT_FROM_SHOP, values, OWNER, ownerName);
         }
 
-        if (Properties.SHOW_TRANSACTION_INFORMATION_OWNER && !Toggle.isIgnoring(event.getOwnerAccount().getName())) {
-            Player owner = Bukkit.getPlayer(event.getOwnerAccount().getUuid());
-            if (owner != null) {
-                sendMessage(owner, Messages.SOMEBODY_BOUGHT_FROM_YOUR_SHOP, event, "buyer", player.getName());
+        if (Properties.SHOW_TRANSACTION_INFORMATION_OWNER) {
+            if (Properties.OWNER_NOTIFICATION_INTERVAL > 0) {
+                OwnerNotificationAggregator.add(event);
+            } else if (!Toggle.isIgnoring(event.getOwnerAccount().getName())) {
+                Player owner = Bukkit.getPlayer(event.getOwnerAccount().getUuid());
+                if (owner != null) {
+                    sendMessage(owner, Messages.SOMEBODY_BOUGHT_FROM_YOUR_SHOP, values, BUYER, player.getName());
+                }
             }
         }
     }
-    
+
     protected static void sendSellMessage(TransactionEvent event) {
         String ownerName = event.getOwnerAccount().getName();
 
         Player player = event.getClient();
+        MessageValues values = new MessageValues(event.getStock(), event.getExactPrice(), event.getSign().getLocation());
 
         if (Properties.SHOW_TRANSACTION_INFORMATION_CLIENT) {
-            sendMessage(player, Messages.YOU_SOLD_TO_SHOP, event, "buyer", ownerName);
+            sendMessage(player, Messages.YOU_SOLD_TO_SHOP, values, BUYER, ownerName);
         }
 
-        if (Properties.SHOW_TRANSACTION_INFORMATION_OWNER && !Toggle.isIgnoring(ownerName)) {
-            Player owner = Bukkit.getPlayer(event.getOwnerAccount().getUuid());
-            if (owner != null) {
-                sendMessage(owner, Messages.SOMEBODY_SOLD_TO_YOUR_SHOP, event, "seller", player.getName());
+        if (Properties.SHOW_TRANSACTION_INFORMATION_OWNER) {
+            if (Properties.OWNER_NOTIFICATION_INTERVAL > 0) {
+                OwnerNotificationAggregator.add(event);
+            } else if (!Toggle.isIgnoring(ownerName)) {
+                Player owner = Bukkit.getPlayer(event.getOwnerAccount().getUuid());
+                if (owner != null) {
+                    sendMessage(owner, Messages.SOMEBODY_SOLD_TO_YOUR_SHOP, values, SELLER, player.getName());
+                }
             }
         }
     }
-    
-    private static void sendMessage(Player player, String rawMessage, TransactionEvent event, String... replacements) {
-        Location loc = event.getSign().getLocation();
-        String message = Messages.prefix(rawMessage)
-                .replace("%price", Economy.formatBalance(event.getPrice()))
-                .replace("%world", loc.getWorld().getName())
-                .replace("%x", String.valueOf(loc.getBlockX()))
-                .replace("%y", String.valueOf(loc.getBlockY()))
-                .replace("%z", String.valueOf(loc.getBlockZ()));
-        
-        for (int i = 0; i + 1 < replacements.length; i+=2) {
-            message = message.replace("%" + replacements[i], replacements[i + 1]);
-        }
-        
-        if (Properties.SHOWITEM_MESSAGE && MaterialUtil.Show.sendMessage(player, message, event.getStock())) {
+
+    static void sendMessage(Player player, String rawMessage, MessageValues values, int nameIndex, String name) {
+        MessageTemplate template = Messages.template(rawMessage, PLACEHOLDERS);
+        String[] filled = values.get(nameIndex, name);
+
+        if (Properties.SHOWITEM_MESSAGE && MaterialUtil.Show.sendMessage(player, template, filled, values.stock)) {
             return;
         }
-        player.sendMessage(message.replace("%item", MaterialUtil.getItemList(event.getStock())));
+
+        filled[ITEM] = values.getItemList();
+        player.sendMessage(template.render(filled));
     }
 
+    /**
+     * Values of the placeholders which are the same for the client's and the owner's message
+     */
+    static class MessageValues {
+        private final ItemStack[] stock;
+        private final Money price;
+        private final Location location;
+        private final String[] values = new String[PLACEHOLDERS.length];
+
+        private boolean filled;
+        private String itemList;
+
+        MessageValues(ItemStack[] stock, Money price, Location location) {
+            this.stock = stock;
+            this.price = price;
+            this.location = location;
+        }
+
+        /**
+         * Sets a value which isn't known from the transaction
+         *
+         * @param index Index of the placeholder
+         * @param value Value of the placeholder
+         * @return This object
+         */
+        MessageValues with(int index, String value) {
+            values[index] = value;
+            return this;
+        }
+
+        private String[] get(int nameIndex, String name) {
+            if (!filled) {
+                values[PRICE] = Economy.formatBalance(price);
+                values[WORLD] = location.getWorld().getName();
+                values[X] = String.valueOf(location.getBlockX());
+                values[Y] = String.valueOf(location.getBlockY());
+                values[Z] = String.valueOf(location.getBlockZ());
+                filled = true;
+            }
+
+            String[] result = values.clone();
+            result[nameIndex] = name;
+            return result;
+        }
+
+        private String getItemList() {
+            if (itemList == null) {
+                itemList = MaterialUtil.getItemList(stock);
+            }
+
+            return itemList;
+        }
+    }
 }
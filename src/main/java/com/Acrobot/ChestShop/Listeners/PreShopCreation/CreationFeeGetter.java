@@ -4,6 +4,7 @@ import com.Acrobot.ChestShop.ChestShop;
 import com.Acrobot.ChestShop.Configuration.Messages;
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Economy.Economy;
+import com.Acrobot.ChestShop.Economy.Money;
 import com.Acrobot.ChestShop.Events.Economy.CurrencyAddEvent;
 import com.Acrobot.ChestShop.Events.Economy.CurrencySubtractEvent;
 import com.Acrobot.ChestShop.Events.PreShopCreationEvent;
@@ -15,8 +16,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 
-import java.math.BigDecimal;
-
 import static com.Acrobot.ChestShop.Permission.NOFEE;
 import static com.Acrobot.ChestShop.Signs.ChestShopSign.NAME_LINE;
 
@@ -27,9 +26,9 @@ public class CreationFeeGetter implements Listener {
 
     @EventHandler(priority = EventPriority.HIGH, ignoreCancelled = true)
     public static void onShopCreation(PreShopCreationEvent event) {
-        double shopCreationPrice = Properties.SHOP_CREATION_PRICE;
+        Money shopCreationPrice = Money.valueOf(Properties.SHOP_CREATION_PRICE);
 
-        if (shopCreationPrice == 0) {
+        if (shopCreationPrice.isZero()) {
             return;
         }
 
@@ -43,7 +42,7 @@ public class CreationFeeGetter implements Listener {
             return;
         }
 
-        CurrencySubtractEvent subtractionEvent = new CurrencySubtractEvent(BigDecimal.valueOf(shopCreationPrice), player);
+        CurrencySubtractEvent subtractionEvent = new CurrencySubtractEvent(shopCreationPrice, player);
         ChestShop.callEvent(subtractionEvent);
 
         if (!subtractionEvent.isSubtracted()) {
@@ -54,7 +53,7 @@ public class CreationFeeGetter implements Listener {
 
         if (NameManager.getServerEconomyAccount() != null) {
             CurrencyAddEvent currencyAddEvent = new CurrencyAddEvent(
-                    BigDecimal.valueOf(shopCreationPrice),
+                    shopCreationPrice,
                     NameManager.getServerEconomyAccount().getUuid(),
                     player.getWorld());
             ChestShop.callEvent(currencyAddEvent);
@@ -1,9 +1,11 @@
 package com.Acrobot.ChestShop.Listeners.PreTransaction;
 
+import com.Acrobot.Breeze.Utils.InventoryContents;
 import com.Acrobot.Breeze.Utils.InventoryUtil;
 import com.Acrobot.Breeze.Utils.MaterialUtil;
 import com.Acrobot.ChestShop.ChestShop;
 import com.Acrobot.ChestShop.Economy.Economy;
+import com.Acrobot.ChestShop.Economy.Money;
 import com.Acrobot.ChestShop.Events.Economy.CurrencyAmountEvent;
 import com.Acrobot.ChestShop.Events.Economy.CurrencyCheckEvent;
 import com.Acrobot.ChestShop.Events.Economy.CurrencyHoldEvent;
@@ -15,7 +17,6 @@ import org.bukkit.event.Listener;
 import org.bukkit.inventory.Inventory;
 import org.bukkit.inventory.ItemStack;
 
-import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
@@ -38,25 +39,26 @@ public class PartialTransactionModule implements Listener {
 
         Player client = event.getClient();
 
-        double pricePerItem = event.getPrice() / InventoryUtil.countItems(event.getStock());
+        Money price = event.getExactPrice();
+        int itemCount = InventoryUtil.countItems(event.getStock());
 
         CurrencyAmountEvent currencyAmountEvent = new CurrencyAmountEvent(client);
         ChestShop.callEvent(currencyAmountEvent);
 
-        BigDecimal walletMoney = currencyAmountEvent.getAmount();
+        Money walletMoney = currencyAmountEvent.getExactAmount();
 
-        CurrencyCheckEvent currencyCheckEvent = new CurrencyCheckEvent(BigDecimal.valueOf(event.getPrice()), client);
+        CurrencyCheckEvent currencyCheckEvent = new CurrencyCheckEvent(event.getExactPrice(), client);
         ChestShop.callEvent(currencyCheckEvent);
 
         if (!currencyCheckEvent.hasEnough()) {
-            int amountAffordable = getAmountOfAffordableItems(walletMoney, pricePerItem);
+            int amountAffordable = getAmountOfAffordableItems(walletMoney, price, itemCount);
 
             if (amountAffordable < 1) {
                 event.setCancelled(CLIENT_DOES_NOT_HAVE_ENOUGH_MONEY);
                 return;
             }
 
-            event.setPrice(amountAffordable * pricePerItem);
+            event.setExactPrice(price.portion(amountAffordable, itemCount));
             event.setStock(getCountedItemStack(event.getStock(), amountAffordable));
         }
 
@@ -69,7 +71,7 @@ public class PartialTransactionModule implements Listener {
                 return;
             }
 
-            event.setPrice(pricePerItem * possessedItemCount);
+            event.setExactPrice(price.portion(possessedItemCount, itemCount));
             event.setStock(itemsHad);
         }
 
@@ -82,12 +84,12 @@ public class PartialTransactionModule implements Listener {
             }
 
             event.setStock(itemsFit);
-            event.setPrice(pricePerItem * possessedItemCount);
+            event.setExactPrice(price.portion(possessedItemCount, itemCount));
         }
 
         UUID seller = event.getOwnerAccount().getUuid();
 
-        CurrencyHoldEvent currencyHoldEvent = new CurrencyHoldEvent(BigDecimal.valueOf(event.getPrice()), seller, client.getWorld());
+        CurrencyHoldEvent currencyHoldEvent = new CurrencyHoldEvent(event.getExactPrice(), seller, client.getWorld());
         ChestShop.callEvent(currencyHoldEvent);
 
         if (!currencyHoldEvent.canHold()) {
@@ -104,26 +106,27 @@ public class PartialTransactionModule implements Listener {
         Player client = event.getClient();
         UUID owner = event.getOwnerAccount().getUuid();
 
-        double pricePerItem = event.getPrice() / InventoryUtil.countItems(event.getStock());
+        Money price = event.getExactPrice();
+        int itemCount = InventoryUtil.countItems(event.getStock());
 
         CurrencyAmountEvent currencyAmountEvent = new CurrencyAmountEvent(owner, client.getWorld());
         ChestShop.callEvent(currencyAmountEvent);
 
-        BigDecimal walletMoney = currencyAmountEvent.getAmount();
+        Money walletMoney = currencyAmountEvent.getExactAmount();
 
         if (Economy.isOwnerEconomicallyActive(event.getOwnerInventory())) {
-            CurrencyCheckEvent currencyCheckEvent = new CurrencyCheckEvent(BigDecimal.valueOf(event.getPrice()), owner, client.getWorld());
+            CurrencyCheckEvent currencyCheckEvent = new CurrencyCheckEvent(event.getExactPrice(), owner, client.getWorld());
             ChestShop.callEvent(currencyCheckEvent);
 
             if (!currencyCheckEvent.hasEnough()) {
-                int amountAffordable = getAmountOfAffordableItems(walletMoney, pricePerItem);
+                int amountAffordable = getAmountOfAffordableItems(walletMoney, price, itemCount);
 
                 if (amountAffordable < 1) {
                     event.setCancelled(SHOP_DOES_NOT_HAVE_ENOUGH_MONEY);
                     return;
                 }
 
-                event.setPrice(amountAffordable * pricePerItem);
+                event.setExactPrice(price.portion(amountAffordable, itemCount));
                 event.setStock(getCountedItemStack(event.getStock(), amountAffordable));
             }
         }
@@ -137,7 +140,7 @@ public class PartialTransactionModule implements Listener {
                 return;
             }
 
-            event.setPrice(pricePerItem * possessedItemCount);
+            event.setExactPrice(price.portion(possessedItemCount, itemCount));
             event.setStock(itemsHad);
         }
 
@@ -150,10 +153,10 @@ public class PartialTransactionModule implements Listener {
             }
 
             event.setStock(itemsFit);
-            event.setPrice(pricePerItem * possessedItemCount);
+            event.setExactPrice(price.portion(possessedItemCount, itemCount));
         }
 
-        CurrencyHoldEvent currencyHoldEvent = new CurrencyHoldEvent(BigDecimal.valueOf(event.getPrice()), client);
+        CurrencyHoldEvent currencyHoldEvent = new CurrencyHoldEvent(event.getExactPrice(), client);
         ChestShop.callEvent(currencyHoldEvent);
 
         if (!currencyHoldEvent.canHold()) {
@@ -161,8 +164,8 @@ public class PartialTransactionModule implements Listener {
         }
     }
 
-    private static int getAmountOfAffordableItems(BigDecimal walletMoney, double pricePerItem) {
-        return (int) Math.floor(walletMoney.doubleValue() / pricePerItem);
+    private static int getAmountOfAffordableItems(Money walletMoney, Money price, int itemCount) {
+        return (int) Math.min(Integer.MAX_VALUE, walletMoney.multiply(itemCount).divideToIntegral(price));
     }
 
     private static ItemStack[] getItems(ItemStack[] stock, Inventory inventory) {
@@ -238,13 +241,15 @@ public class PartialTransactionModule implements Listener {
         List<ItemStack> resultStock = new LinkedList<>();
 
         int emptySlots = InventoryUtil.countEmpty(inventory);
+        InventoryContents contents = new InventoryContents(inventory.getContents());
 
         for (ItemStack item : InventoryUtil.mergeSimilarStacks(stock)) {
             int maxStackSize = InventoryUtil.getMaxStackSize(item);
+            long fingerprint = MaterialUtil.getFingerprint(item);
             int free = 0;
-            for (ItemStack itemInInventory : inventory.getContents()) {
-                if (MaterialUtil.equals(item, itemInInventory)) {
-                    free += (maxStackSize - itemInInventory.getAmount()) % maxStackSize;
+            for (int slot = 0; slot < contents.size(); slot++) {
+                if (contents.isSimilar(slot, item, fingerprint)) {
+                    free += (maxStackSize - contents.getItem(slot).getAmount()) % maxStackSize;
                 }
             }
 
@@ -22,7 +22,7 @@ public class PriceValidator implements Listener {
         }
 
         TransactionEvent.TransactionType transactionType = event.getTransactionType();
-        double price = event.getPrice();
+        double price = event.getExactPrice().doubleValue();
 
         if (price == NO_PRICE) {
             if (transactionType == BUY) {
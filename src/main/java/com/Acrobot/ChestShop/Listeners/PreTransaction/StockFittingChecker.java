@@ -3,6 +3,7 @@ package com.Acrobot.ChestShop.Listeners.PreTransaction;
 import com.Acrobot.Breeze.Utils.InventoryUtil;
 import com.Acrobot.ChestShop.Database.Item;
 import com.Acrobot.ChestShop.Events.PreTransactionEvent;
+import com.Acrobot.ChestShop.Signs.ShopStock;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 import org.bukkit.inventory.Inventory;
@@ -26,7 +27,7 @@ public class StockFittingChecker implements Listener {
         Inventory shopInventory = event.getOwnerInventory();
         ItemStack[] stock = event.getStock();
 
-        if (!InventoryUtil.fits(stock, shopInventory)) {
+        if (!ShopStock.fits(event.getSign(), shopInventory, stock)) {
             event.setCancelled(NOT_ENOUGH_SPACE_IN_CHEST);
         }
     }
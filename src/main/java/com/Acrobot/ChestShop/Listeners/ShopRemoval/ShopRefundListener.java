@@ -5,6 +5,7 @@ import com.Acrobot.ChestShop.Configuration.Messages;
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Database.Account;
 import com.Acrobot.ChestShop.Economy.Economy;
+import com.Acrobot.ChestShop.Economy.Money;
 import com.Acrobot.ChestShop.Events.Economy.CurrencyAddEvent;
 import com.Acrobot.ChestShop.Events.Economy.CurrencySubtractEvent;
 import com.Acrobot.ChestShop.Events.ShopDestroyedEvent;
@@ -15,7 +16,6 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 
-import java.math.BigDecimal;
 import java.util.UUID;
 
 import static com.Acrobot.ChestShop.Permission.NOFEE;
@@ -29,9 +29,9 @@ import static com.Acrobot.ChestShop.Signs.ChestShopSign.NAME_LINE;
 public class ShopRefundListener implements Listener {
     @EventHandler(priority = EventPriority.MONITOR)
     public static void onShopDestroy(ShopDestroyedEvent event) {
-        double refundPrice = Properties.SHOP_REFUND_PRICE;
+        Money refundPrice = Money.valueOf(Properties.SHOP_REFUND_PRICE);
 
-        if (event.getDestroyer() == null || Permission.has(event.getDestroyer(), NOFEE) || refundPrice == 0) {
+        if (event.getDestroyer() == null || Permission.has(event.getDestroyer(), NOFEE) || refundPrice.isZero()) {
             return;
         }
 
@@ -44,12 +44,12 @@ public class ShopRefundListener implements Listener {
             return;
         }
 
-        CurrencyAddEvent currencyEvent = new CurrencyAddEvent(BigDecimal.valueOf(refundPrice), account.getUuid(), event.getSign().getWorld());
+        CurrencyAddEvent currencyEvent = new CurrencyAddEvent(refundPrice, account.getUuid(), event.getSign().getWorld());
         ChestShop.callEvent(currencyEvent);
 
         if (NameManager.getServerEconomyAccount() != null) {
             CurrencySubtractEvent currencySubtractEvent = new CurrencySubtractEvent(
-                    BigDecimal.valueOf(refundPrice),
+                    refundPrice,
                     NameManager.getServerEconomyAccount().getUuid(),
                     event.getSign().getWorld());
             ChestShop.callEvent(currencySubtractEvent);
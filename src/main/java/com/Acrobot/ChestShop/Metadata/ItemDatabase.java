@@ -4,6 +4,8 @@ import com.Acrobot.Breeze.Utils.Encoding.Base62;
 import com.Acrobot.Breeze.Utils.Encoding.Base64;
 import com.Acrobot.ChestShop.Database.DaoCreator;
 import com.Acrobot.ChestShop.Database.Item;
+import com.Acrobot.ChestShop.Metrics.Histogram;
+import com.Acrobot.ChestShop.Metrics.MetricsRegistry;
 import com.j256.ormlite.dao.Dao;
 import org.bukkit.configuration.file.YamlConstructor;
 import org.bukkit.configuration.file.YamlRepresenter;
@@ -21,6 +23,8 @@ import java.sql.SQLException;
  * @author Acrobot
  */
 public class ItemDatabase {
+    private static final Histogram QUERY_DURATIONS = MetricsRegistry.getTimer("chestshop_db_query_duration_seconds", "table", "items");
+
     private Dao<Item, Integer> itemDao;
 
     private final Yaml yaml;
@@ -48,7 +52,9 @@ public class ItemDatabase {
             clone.setDurability((short) 0);
 
             String code = Base64.encodeObject(yaml.dump(clone));
+            long start = System.nanoTime();
             Item itemEntity = itemDao.queryBuilder().where().eq("code", code).queryForFirst();
+            QUERY_DURATIONS.record(System.nanoTime() - start);
 
             if (itemEntity != null) {
                 return Base62.encode(itemEntity.getId());
@@ -56,7 +62,9 @@ public class ItemDatabase {
 
             itemEntity = new Item(code);
 
+            start = System.nanoTime();
             itemDao.create(itemEntity);
+            QUERY_DURATIONS.record(System.nanoTime() - start);
 
             int id = itemEntity.getId();
 
@@ -82,7 +90,9 @@ public class ItemDatabase {
 
         try {
             int id = Base62.decode(code);
+            long start = System.nanoTime();
             Item item = itemDao.queryBuilder().where().eq("id", id).queryForFirst();
+            QUERY_DURATIONS.record(System.nanoTime() - start);
 
             if (item == null) {
                 return null;
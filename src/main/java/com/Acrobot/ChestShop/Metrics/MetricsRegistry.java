@@ -0,0 +1,188 @@
+package com.Acrobot.ChestShop.Metrics;
+
+import com.Acrobot.Breeze.Collection.SimpleCache;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Counters, gauges and timers of ChestShop, exported in the Prometheus text format
+ *
+ * @author Acrobot
+ */
+public class MetricsRegistry {
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99};
+
+    private static final Map<String, Map<String, LongAdder>> counters = new ConcurrentSkipListMap<>();
+    private static final Map<String, Map<String, LongSupplier>> counterFunctions = new ConcurrentSkipListMap<>();
+    private static final Map<String, Map<String, LongSupplier>> gauges = new ConcurrentSkipListMap<>();
+    private static final Map<String, Map<String, Histogram>> timers = new ConcurrentSkipListMap<>();
+
+    /**
+     * Gets a counter, creating it if it doesn't exist yet
+     *
+     * @param name   Name of the metric
+     * @param labels Label names and values, alternating
+     * @return Counter
+     */
+    public static LongAdder getCounter(String name, String... labels) {
+        return counters.computeIfAbsent(name, n -> new ConcurrentHashMap<>())
+                .computeIfAbsent(formatLabels(labels), l -> new LongAdder());
+    }
+
+    /**
+     * Registers a counter whose value is kept elsewhere, replacing the previous one with the same name and labels
+     *
+     * @param name   Name of the metric
+     * @param value  Supplier of the current, never decreasing value
+     * @param labels Label names and values, alternating
+     */
+    public static void registerCounter(String name, LongSupplier value, String... labels) {
+        counterFunctions.computeIfAbsent(name, n -> new ConcurrentHashMap<>()).put(formatLabels(labels), value);
+    }
+
+    /**
+     * Registers a gauge, replacing the previous one with the same name and labels
+     *
+     * @param name   Name of the metric
+     * @param value  Supplier of the current value
+     * @param labels Label names and values, alternating
+     */
+    public static void registerGauge(String name, LongSupplier value, String... labels) {
+        gauges.computeIfAbsent(name, n -> new ConcurrentHashMap<>()).put(formatLabels(labels), value);
+    }
+
+    /**
+     * Registers hit and miss counters of a cache
+     *
+     * @param cacheName Name of the cache
+     * @param cache     The cache
+     */
+    public static void registerCache(String cacheName, SimpleCache<?, ?> cache) {
+        registerCounter("chestshop_cache_hits_total", cache::getHits, "cache", cacheName);
+        registerCounter("chestshop_cache_misses_total", cache::getMisses, "cache", cacheName);
+    }
+
+    /**
+     * Gets a timer, creating it if it doesn't exist yet
+     *
+     * @param name   Name of the metric
+     * @param labels Label names and values, alternating
+     * @return Histogram of durations in nanoseconds
+     */
+    public static Histogram getTimer(String name, String... labels) {
+        return timers.computeIfAbsent(name, n -> new ConcurrentHashMap<>())
+                .computeIfAbsent(formatLabels(labels), l -> new Histogram());
+    }
+
+    /**
+     * Writes all metrics to the file. The file is replaced atomically,
+     * so that it can be read by other programs at any time.
+     *
+     * @param file File to write to
+     * @throws IOException Thrown when the file couldn't be written
+     */
+    public static void export(File file) throws IOException {
+        File temporary = new File(file.getParentFile(), file.getName() + ".tmp");
+
+        try (PrintWriter writer = new PrintWriter(temporary, StandardCharsets.UTF_8.name())) {
+            Map<String, Map<String, LongSupplier>> allCounters = new TreeMap<>();
+
+            for (Map.Entry<String, Map<String, LongAdder>> counter : counters.entrySet()) {
+                Map<String, LongSupplier> series = allCounters.computeIfAbsent(counter.getKey(), n -> new TreeMap<>());
+                for (Map.Entry<String, LongAdder> adder : counter.getValue().entrySet()) {
+                    series.put(adder.getKey(), adder.getValue()::sum);
+                }
+            }
+
+            for (Map.Entry<String, Map<String, LongSupplier>> counter : counterFunctions.entrySet()) {
+                allCounters.computeIfAbsent(counter.getKey(), n -> new TreeMap<>()).putAll(counter.getValue());
+            }
+
+            for (Map.Entry<String, Map<String, LongSupplier>> counter : allCounters.entrySet()) {
+                writer.println("# TYPE " + counter.getKey() + " counter");
+
+                for (Map.Entry<String, LongSupplier> series : counter.getValue().entrySet()) {
+                    writer.println(counter.getKey() + series.getKey() + ' ' + series.getValue().getAsLong());
+                }
+            }
+
+            for (Map.Entry<String, Map<String, LongSupplier>> gauge : gauges.entrySet()) {
+                writer.println("# TYPE " + gauge.getKey() + " gauge");
+
+                for (Map.Entry<String, LongSupplier> series : new TreeMap<>(gauge.getValue()).entrySet()) {
+                    writer.println(gauge.getKey() + series.getKey() + ' ' + series.getValue().getAsLong());
+                }
+            }
+
+            for (Map.Entry<String, Map<String, Histogram>> timer : timers.entrySet()) {
+                writeSummary(writer, timer.getKey(), timer.getValue());
+            }
+
+            Map<String, Histogram> stages = new TreeMap<>();
+            for (Map.Entry<String, Histogram> stage : StageMetrics.getHistograms().entrySet()) {
+                stages.put(formatLabels("stage", stage.getKey()), stage.getValue());
+            }
+            writeSummary(writer, "chestshop_stage_duration_seconds", stages);
+        }
+
+        Files.move(temporary.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void writeSummary(PrintWriter writer, String name, Map<String, Histogram> histograms) {
+        if (histograms.isEmpty()) {
+            return;
+        }
+
+        writer.println("# TYPE " + name + " summary");
+
+        for (Map.Entry<String, Histogram> series : new TreeMap<>(histograms).entrySet()) {
+            String labels = series.getKey();
+            Histogram histogram = series.getValue();
+
+            for (double quantile : QUANTILES) {
+                String quantileLabel = "quantile=\"" + quantile + '"';
+                String quantileLabels = labels.isEmpty() ? '{' + quantileLabel + '}' : labels.substring(0, labels.length() - 1) + ',' + quantileLabel + '}';
+
+                writer.println(name + quantileLabels + ' ' + toSeconds(histogram.getPercentile(quantile * 100)));
+            }
+
+            writer.println(name + "_sum" + labels + ' ' + toSeconds(histogram.getSum()));
+            writer.println(name + "_count" + labels + ' ' + histogram.getCount());
+        }
+    }
+
+    private static double toSeconds(long nanoseconds) {
+        return nanoseconds / 1e9;
+    }
+
+    private static String formatLabels(String... labels) {
+        if (labels.length == 0) {
+            return "";
+        }
+
+        StringBuilder builder = new StringBuilder("{");
+
+        for (int i = 0; i + 1 < labels.length; i += 2) {
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            builder.append(labels[i]).append("=\"")
+                    .append(labels[i + 1].replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n"))
+                    .append('"');
+        }
+
+        return builder.append('}').toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.Acrobot.ChestShop.Metrics;
+
+import com.Acrobot.ChestShop.Configuration.Properties;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Latency histograms of the single stages of a transaction
+ *
+ * @author Acrobot
+ */
+public class StageMetrics {
+    private static final Map<String, Histogram> stages = new ConcurrentSkipListMap<>(String.CASE_INSENSITIVE_ORDER);
+
+    /**
+     * @return Should the stages be timed?
+     */
+    public static boolean isEnabled() {
+        return Properties.TRANSACTION_METRICS;
+    }
+
+    /**
+     * Gets the histogram of a stage, creating it if it doesn't exist yet
+     *
+     * @param stage Name of the stage
+     * @return Histogram of the stage's durations, in nanoseconds
+     */
+    public static Histogram getHistogram(String stage) {
+        return stages.computeIfAbsent(stage, name -> new Histogram());
+    }
+
+    /**
+     * @return All stages with their histograms, sorted by the stage name
+     */
+    public static Map<String, Histogram> getHistograms() {
+        return stages;
+    }
+
+    /**
+     * Removes all recorded durations
+     */
+    public static void reset() {
+        for (Histogram histogram : stages.values()) {
+            histogram.reset();
+        }
+    }
+
+    /**
+     * Formats the stage's statistics as one line
+     *
+     * @param stage     Name of the stage
+     * @param histogram Histogram of the stage
+     * @return Formatted line
+     */
+    public static String format(String stage, Histogram histogram) {
+        return String.format("%s: count=%d mean=%.1fus p50=%.1fus p99=%.1fus max=%.1fus",
+                stage,
+                histogram.getCount(),
+                histogram.getMean() / 1000,
+                histogram.getPercentile(50) / 1000.0,
+                histogram.getPercentile(99) / 1000.0,
+                histogram.getMax() / 1000.0);
+    }
+
+    /**
+     * Writes the statistics of all stages into a file
+     *
+     * @param folder Folder in which the file should be created
+     * @return The created file
+     * @throws IOException Thrown when the file couldn't be written
+     */
+    public static File dump(File folder) throws IOException {
+        File file = new File(folder, "metrics-" + new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date()) + ".txt");
+
+        try (PrintWriter writer = new PrintWriter(file, StandardCharsets.UTF_8.name())) {
+            for (Map.Entry<String, Histogram> entry : stages.entrySet()) {
+                if (entry.getValue().getCount() > 0) {
+                    writer.println(format(entry.getKey(), entry.getValue()));
+                }
+            }
+        }
+
+        return file;
+    }
+}
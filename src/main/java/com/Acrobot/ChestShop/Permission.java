@@ -1,10 +1,16 @@
 package com.Acrobot.ChestShop;
 
+import com.Acrobot.ChestShop.Configuration.Properties;
 import org.bukkit.Bukkit;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Predicate;
 
 /**
  * @author Acrobot
@@ -40,10 +46,16 @@ public enum Permission {
     NOTIFY_TOGGLE("ChestShop.toggle"),
     ITEMINFO("ChestShop.iteminfo");
 
+    private static final Map<UUID, Map<Permission, Map<String, Boolean>>> decisionCache = new HashMap<>();
+
     private final String permission;
+    private final String prefix;
+    private final String allNames;
 
     Permission(String permission) {
         this.permission = permission;
+        this.prefix = (permission + '.').intern();
+        this.allNames = (permission + ".*").intern();
     }
 
     public static boolean has(CommandSender sender, Permission permission) {
@@ -59,12 +71,62 @@ public enum Permission {
     }
 
     public static boolean otherName(Player player, Permission base, String name) {
+        return remember(player, base, name, p -> checkOtherName(p, base, name));
+    }
+
+    /**
+     * Checks the permission only if the player's decision for the base and name isn't remembered yet
+     *
+     * @param player Player
+     * @param base   Permission the decision is about
+     * @param name   Name the decision is about
+     * @param check  Check which makes the decision
+     * @return The decision
+     */
+    public static boolean remember(Player player, Permission base, String name, Predicate<Player> check) {
+        if (Properties.PERMISSION_CACHE_TIME <= 0 || !Bukkit.isPrimaryThread()) {
+            return check.test(player);
+        }
+
+        Map<String, Boolean> decisions = decisionCache.computeIfAbsent(player.getUniqueId(), uuid -> new EnumMap<>(Permission.class))
+                .computeIfAbsent(base, b -> new HashMap<>());
+        Boolean decision = decisions.get(name);
+
+        if (decision == null) {
+            if (decisions.size() >= Properties.CACHE_SIZE) {
+                decisions.clear();
+            }
+
+            decision = check.test(player);
+            decisions.put(name, decision);
+        }
+
+        return decision;
+    }
+
+    private static boolean checkOtherName(Player player, Permission base, String name) {
         boolean hasBase = base != OTHER_NAME && otherName(player, OTHER_NAME, name);
-        if (hasBase || has(player, base + ".*")) {
-            return !hasPermissionSetFalse(player, base+ "." + name) && !hasPermissionSetFalse(player, base + "." + name.toLowerCase());
+        if (hasBase || has(player, base.allNames)) {
+            return !hasPermissionSetFalse(player, base.prefix + name) && !hasPermissionSetFalse(player, base.prefix + name.toLowerCase());
         }
 
-        return has(player, base + "." + name) || has(player, base + "." + name.toLowerCase());
+        return has(player, base.prefix + name) || has(player, base.prefix + name.toLowerCase());
+    }
+
+    /**
+     * Forgets the remembered permission decisions of the player
+     *
+     * @param player UUID of the player
+     */
+    public static void forgetDecisions(UUID player) {
+        decisionCache.remove(player);
+    }
+
+    /**
+     * Forgets the remembered permission decisions of all players, so that changed permissions are seen
+     */
+    public static void clearDecisions() {
+        decisionCache.clear();
     }
 
     private static boolean hasPermissionSetFalse(CommandSender sender, String permission) {
@@ -2,14 +2,9 @@ package com.Acrobot.ChestShop.Plugins;
 
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Events.Protection.BuildPermissionEvent;
-import com.sk89q.worldedit.bukkit.BukkitAdapter;
-import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.bukkit.WorldGuardPlugin;
-import com.sk89q.worldguard.internal.platform.WorldGuardPlatform;
 import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.flags.StateFlag;
-import com.sk89q.worldguard.protection.managers.RegionManager;
-import org.bukkit.Location;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.Listener;
 
@@ -18,16 +13,16 @@ import org.bukkit.event.Listener;
  */
 public class WorldGuardBuilding implements Listener {
     private WorldGuardPlugin worldGuard;
-    private WorldGuardPlatform worldGuardPlatform;
+    private WorldGuardRegionCache regionCache;
 
-    public WorldGuardBuilding(WorldGuardPlugin plugin) {
+    public WorldGuardBuilding(WorldGuardPlugin plugin, WorldGuardRegionCache regionCache) {
         this.worldGuard = plugin;
-        this.worldGuardPlatform = WorldGuard.getInstance().getPlatform();
+        this.regionCache = regionCache;
     }
 
     @EventHandler
     public void canBuild(BuildPermissionEvent event) {
-        ApplicableRegionSet regions = getApplicableRegions(event.getSign().getBlock().getLocation());
+        ApplicableRegionSet regions = regionCache.getApplicableRegions(event.getSign().getBlock());
 
         if (regions != null && Properties.WORLDGUARD_USE_FLAG) {
             event.allow(regions.queryState(worldGuard.wrapPlayer(event.getPlayer()), WorldGuardFlags.ENABLE_SHOP) == StateFlag.State.ALLOW);
@@ -35,12 +30,4 @@ public class WorldGuardBuilding implements Listener {
             event.allow(regions == null || regions.size() != 0);
         }
     }
-
-    private ApplicableRegionSet getApplicableRegions(Location location) {
-        RegionManager regionManager = worldGuardPlatform.getRegionContainer().get(BukkitAdapter.adapt(location.getWorld()));
-        if (regionManager == null) {
-            return null;
-        }
-        return regionManager.getApplicableRegions(BukkitAdapter.adapt(location).toVector().toBlockPoint());
-    }
 }
@@ -2,15 +2,11 @@ package com.Acrobot.ChestShop.Plugins;
 
 import com.Acrobot.ChestShop.Events.Protection.ProtectionCheckEvent;
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
-import com.sk89q.worldedit.math.BlockVector3;
 import com.sk89q.worldguard.LocalPlayer;
-import com.sk89q.worldguard.WorldGuard;
 import com.sk89q.worldguard.bukkit.WorldGuardPlugin;
 import com.sk89q.worldguard.internal.permission.RegionPermissionModel;
-import com.sk89q.worldguard.internal.platform.WorldGuardPlatform;
 import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.flags.Flags;
-import com.sk89q.worldguard.protection.managers.RegionManager;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
@@ -22,11 +18,11 @@ import org.bukkit.event.Listener;
  */
 public class WorldGuardProtection implements Listener {
     private WorldGuardPlugin worldGuard;
-    private WorldGuardPlatform worldGuardPlatform;
+    private WorldGuardRegionCache regionCache;
 
-    public WorldGuardProtection(WorldGuardPlugin worldGuard) {
+    public WorldGuardProtection(WorldGuardPlugin worldGuard, WorldGuardRegionCache regionCache) {
         this.worldGuard = worldGuard;
-        this.worldGuardPlatform = WorldGuard.getInstance().getPlatform();
+        this.regionCache = regionCache;
     }
 
     @EventHandler
@@ -38,12 +34,10 @@ public class WorldGuardProtection implements Listener {
         Block block = event.getBlock();
         Player player = event.getPlayer();
 
-        BlockVector3 blockPos = BukkitAdapter.adapt(block.getLocation()).toVector().toBlockPoint();
-        RegionManager manager = worldGuardPlatform.getRegionContainer().get(BukkitAdapter.adapt(block.getWorld()));
-        if (manager == null) {
+        ApplicableRegionSet set = regionCache.getApplicableRegions(block);
+        if (set == null) {
             return;
         }
-        ApplicableRegionSet set = manager.getApplicableRegions(blockPos);
 
         LocalPlayer localPlayer = worldGuard.wrapPlayer(player);
 
@@ -0,0 +1,152 @@
+package com.Acrobot.ChestShop.Plugins;
+
+import com.Acrobot.Breeze.Collection.SimpleCache;
+import com.Acrobot.ChestShop.Configuration.Properties;
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.internal.platform.WorldGuardPlatform;
+import com.sk89q.worldguard.protection.ApplicableRegionSet;
+import com.sk89q.worldguard.protection.RegionResultSet;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import org.bukkit.block.Block;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Remembers which WorldGuard regions intersect a chunk, so that the regions at a block
+ * only have to be looked for among them instead of in the whole region tree.
+ * Must only be used from the main thread.
+ *
+ * @author Acrobot
+ */
+public class WorldGuardRegionCache {
+    private static final String CHUNK_REGION_ID = "chestshop_chunk";
+
+    private final WorldGuardPlatform worldGuardPlatform;
+    private final SimpleCache<ChunkKey, ChunkRegions> chunks = new SimpleCache<>(Properties.CACHE_SIZE);
+
+    public WorldGuardRegionCache(WorldGuardPlatform worldGuardPlatform) {
+        this.worldGuardPlatform = worldGuardPlatform;
+    }
+
+    /**
+     * Returns the regions at the block, like {@link RegionManager#getApplicableRegions(BlockVector3)}
+     *
+     * @param block Block
+     * @return Regions at the block, or null if the world doesn't have regions
+     */
+    public ApplicableRegionSet getApplicableRegions(Block block) {
+        RegionManager manager = worldGuardPlatform.getRegionContainer().get(BukkitAdapter.adapt(block.getWorld()));
+        if (manager == null) {
+            return null;
+        }
+
+        BlockVector3 position = BlockVector3.at(block.getX(), block.getY(), block.getZ());
+
+        if (Properties.WORLDGUARD_REGION_CACHE_TIME <= 0) {
+            return manager.getApplicableRegions(position);
+        }
+
+        ChunkKey key = new ChunkKey(block.getWorld().getUID(), block.getX() >> 4, block.getZ() >> 4);
+        ChunkRegions regions = chunks.get(key);
+
+        if (regions == null || !regions.isCurrent(manager)) {
+            regions = new ChunkRegions(manager, key.x, key.z, block.getWorld().getMaxHeight());
+            chunks.put(key, regions);
+        }
+
+        return regions.getApplicableRegions(position);
+    }
+
+    /**
+     * Forgets all chunks, so that changes of the regions are seen
+     */
+    public void clear() {
+        chunks.clear();
+    }
+
+    /**
+     * @return The cache of the chunks' regions
+     */
+    public SimpleCache<?, ?> getCache() {
+        return chunks;
+    }
+
+    private static class ChunkRegions {
+        private final RegionManager manager;
+        private final int regionCount;
+        private final List<ProtectedRegion> candidates = new ArrayList<>();
+        private final ProtectedRegion globalRegion;
+
+        private ChunkRegions(RegionManager manager, int chunkX, int chunkZ, int maxHeight) {
+            this.manager = manager;
+            this.regionCount = manager.size();
+            this.globalRegion = manager.getRegion(ProtectedRegion.GLOBAL_REGION);
+
+            ProtectedRegion chunk = new ProtectedCuboidRegion(CHUNK_REGION_ID,
+                    BlockVector3.at(chunkX << 4, 0, chunkZ << 4),
+                    BlockVector3.at((chunkX << 4) + 15, maxHeight - 1, (chunkZ << 4) + 15));
+
+            for (ProtectedRegion region : manager.getApplicableRegions(chunk)) {
+                candidates.add(region);
+            }
+        }
+
+        /**
+         * Added or removed regions change the count, redefined ones are seen after the next clear
+         */
+        private boolean isCurrent(RegionManager manager) {
+            return this.manager == manager && regionCount == manager.size();
+        }
+
+        private ApplicableRegionSet getApplicableRegions(BlockVector3 position) {
+            Set<ProtectedRegion> applicable = new LinkedHashSet<>();
+
+            for (ProtectedRegion region : candidates) {
+                if (!region.contains(position)) {
+                    continue;
+                }
+
+                for (ProtectedRegion current = region; current != null; current = current.getParent()) {
+                    applicable.add(current);
+                }
+            }
+
+            return new RegionResultSet(new ArrayList<>(applicable), globalRegion);
+        }
+    }
+
+    private static class ChunkKey {
+        private final UUID world;
+        private final int x;
+        private final int z;
+
+        private ChunkKey(UUID world, int x, int z) {
+            this.world = world;
+            this.x = x;
+            this.z = z;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ChunkKey)) {
+                return false;
+            }
+
+            ChunkKey other = (ChunkKey) o;
+            return x == other.x && z == other.z && world.equals(other.world);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(world, x, z);
+        }
+    }
+}
@@ -8,12 +8,18 @@ import com.Acrobot.ChestShop.Events.Protection.ProtectionCheckEvent;
 import com.Acrobot.ChestShop.Signs.ChestShopSign;
 import com.Acrobot.ChestShop.UUIDs.NameManager;
 import com.Acrobot.ChestShop.Utils.uBlock;
+import org.bukkit.Bukkit;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.Sign;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Event;
 
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * @author Acrobot
  */
@@ -21,6 +27,8 @@ public class Security {
     private static final BlockFace[] SIGN_CONNECTION_FACES = {BlockFace.UP, BlockFace.EAST, BlockFace.WEST, BlockFace.NORTH, BlockFace.SOUTH};
     private static final BlockFace[] BLOCKS_AROUND = {BlockFace.UP, BlockFace.DOWN, BlockFace.EAST, BlockFace.WEST, BlockFace.NORTH, BlockFace.SOUTH};
 
+    private static final Map<Block, Map<UUID, CachedAccess>> accessCache = new HashMap<>();
+
     public static boolean protect(Player player, Block block) {
         ProtectBlockEvent event = new ProtectBlockEvent(block, player);
         ChestShop.callEvent(event);
@@ -33,10 +41,101 @@ public class Security {
     }
 
     public static boolean canAccess(Player player, Block block, boolean ignoreDefaultProtection) {
+        boolean cacheable = Properties.PROTECTION_CHECK_CACHE_TIME > 0 && Bukkit.isPrimaryThread();
+        long now = System.currentTimeMillis();
+
+        if (cacheable) {
+            Map<UUID, CachedAccess> players = accessCache.get(block);
+            CachedAccess cached = players != null ? players.get(player.getUniqueId()) : null;
+
+            if (cached != null && cached.ignoreDefaultProtection == ignoreDefaultProtection && cached.expiresAt > now) {
+                return cached.allowed;
+            }
+        }
+
         ProtectionCheckEvent event = new ProtectionCheckEvent(block, player, ignoreDefaultProtection);
         ChestShop.callEvent(event);
 
-        return event.getResult() != Event.Result.DENY;
+        boolean allowed = event.getResult() != Event.Result.DENY;
+
+        if (cacheable) {
+            if (accessCache.size() >= Properties.CACHE_SIZE) {
+                removeExpiredAccess(now);
+            }
+
+            accessCache.computeIfAbsent(block, b -> new HashMap<>())
+                    .put(player.getUniqueId(), new CachedAccess(allowed, ignoreDefaultProtection, now + Properties.PROTECTION_CHECK_CACHE_TIME));
+        }
+
+        return allowed;
+    }
+
+    /**
+     * Forgets the remembered protection checks of the block
+     *
+     * @param block Block
+     */
+    public static void forgetAccess(Block block) {
+        accessCache.remove(block);
+    }
+
+    /**
+     * Forgets the remembered protection checks of the block and the blocks around it,
+     * like the other half of a double chest or a sign attached to it
+     *
+     * @param block Block
+     */
+    public static void forgetAccessAround(Block block) {
+        if (accessCache.isEmpty()) {
+            return;
+        }
+
+        accessCache.remove(block);
+
+        for (BlockFace face : BLOCKS_AROUND) {
+            accessCache.remove(block.getRelative(face));
+        }
+    }
+
+    /**
+     * Forgets the remembered protection checks of the player
+     *
+     * @param player UUID of the player
+     */
+    public static void forgetAccess(UUID player) {
+        Iterator<Map<UUID, CachedAccess>> iterator = accessCache.values().iterator();
+
+        while (iterator.hasNext()) {
+            Map<UUID, CachedAccess> players = iterator.next();
+
+            if (players.remove(player) != null && players.isEmpty()) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Forgets all remembered protection checks
+     */
+    public static void clearAccessCache() {
+        accessCache.clear();
+    }
+
+    private static void removeExpiredAccess(long now) {
+        Iterator<Map<UUID, CachedAccess>> iterator = accessCache.values().iterator();
+
+        while (iterator.hasNext()) {
+            Map<UUID, CachedAccess> players = iterator.next();
+            players.values().removeIf(cached -> cached.expiresAt <= now);
+
+            if (players.isEmpty()) {
+                iterator.remove();
+            }
+        }
+
+        if (accessCache.size() >= Properties.CACHE_SIZE) {
+            accessCache.clear();
+        }
     }
 
     public static boolean canPlaceSign(Player player, Sign sign) {
@@ -85,4 +184,16 @@ public class Security {
         }
         return false;
     }
+
+    private static class CachedAccess {
+        private final boolean allowed;
+        private final boolean ignoreDefaultProtection;
+        private final long expiresAt;
+
+        private CachedAccess(boolean allowed, boolean ignoreDefaultProtection, long expiresAt) {
+            this.allowed = allowed;
+            this.ignoreDefaultProtection = ignoreDefaultProtection;
+            this.expiresAt = expiresAt;
+        }
+    }
 }
@@ -5,6 +5,7 @@ import com.Acrobot.ChestShop.Configuration.Messages;
 import com.Acrobot.ChestShop.Events.PreTransactionEvent;
 import com.Acrobot.ChestShop.Permission;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.block.BlockFace;
 import org.bukkit.block.Sign;
@@ -15,6 +16,10 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.block.BlockBreakEvent;
 import org.bukkit.event.block.SignChangeEvent;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
 import static com.Acrobot.ChestShop.Events.PreTransactionEvent.TransactionOutcome.SHOP_IS_RESTRICTED;
 import static com.Acrobot.ChestShop.Permission.ADMIN;
 
@@ -24,9 +29,21 @@ import static com.Acrobot.ChestShop.Permission.ADMIN;
 public class RestrictedSign implements Listener {
     private static final BlockFace[] SIGN_CONNECTION_FACES = {BlockFace.SELF, BlockFace.UP, BlockFace.EAST, BlockFace.WEST, BlockFace.NORTH, BlockFace.SOUTH};
 
+    /**
+     * Restricted signs in loaded chunks by world and chunk, found when a chunk is indexed or when a sign is written.
+     * Signs placed without an event (e.g. by WorldEdit) are only found when they are read.
+     * Must only be used from the main thread.
+     */
+    private static final Map<UUID, Map<Long, Map<Block, Restriction>>> restrictions = new HashMap<>();
+
     @EventHandler(ignoreCancelled = true)
     public static void onBlockDestroy(BlockBreakEvent event) {
         Block destroyed = event.getBlock();
+
+        if (!isNearSign(destroyed)) {
+            return;
+        }
+
         Sign attachedRestrictedSign = getRestrictedSign(destroyed.getLocation());
 
         if (attachedRestrictedSign == null) {
@@ -67,19 +84,137 @@ public class RestrictedSign implements Listener {
         }
     }
 
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onSignWritten(SignChangeEvent event) {
+        if (isRestricted(event.getLines())) {
+            put(event.getBlock(), new Restriction(event.getLines()));
+        } else {
+            remove(event.getBlock());
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public static void onRestrictedSignDestroy(BlockBreakEvent event) {
+        remove(event.getBlock());
+    }
+
     @EventHandler(priority = EventPriority.LOW)
     public static void onPreTransaction(PreTransactionEvent event) {
         if (event.isCancelled()) {
             return;
         }
 
-        Sign sign = event.getSign();
+        Block blockUp = event.getSign().getBlock().getRelative(BlockFace.UP);
+        Restriction restriction = getRestriction(blockUp);
+
+        if (restriction == null && BlockUtil.isSign(blockUp)) { // not indexed, so read the sign like before
+            Sign sign = (Sign) blockUp.getState();
+
+            if (isRestricted(sign)) {
+                restriction = new Restriction(sign.getLines());
+                put(blockUp, restriction);
+            }
+        }
 
-        if (isRestrictedShop(sign) && !canAccess(sign, event.getClient())) {
+        if (restriction != null && !restriction.canAccess(event.getClient())) {
             event.setCancelled(SHOP_IS_RESTRICTED);
         }
     }
 
+    /**
+     * Adds the restricted sign to the index
+     *
+     * @param sign Restricted sign
+     */
+    static void index(Sign sign) {
+        put(sign.getBlock(), new Restriction(sign.getLines()));
+    }
+
+    /**
+     * Removes the restricted signs of the chunk from the index
+     *
+     * @param world  World of the chunk
+     * @param chunkX X coordinate of the chunk
+     * @param chunkZ Z coordinate of the chunk
+     */
+    static void removeChunk(World world, int chunkX, int chunkZ) {
+        Map<Long, Map<Block, Restriction>> chunks = restrictions.get(world.getUID());
+
+        if (chunks != null && chunks.remove(ShopIndex.getChunkKey(chunkX, chunkZ)) != null && chunks.isEmpty()) {
+            restrictions.remove(world.getUID());
+        }
+    }
+
+    /**
+     * Removes the restricted signs of the world from the index
+     *
+     * @param world World
+     */
+    static void removeWorld(World world) {
+        restrictions.remove(world.getUID());
+    }
+
+    /**
+     * Checks only the block types, because signs placed without an event (e.g. by WorldEdit) aren't indexed
+     */
+    private static boolean isNearSign(Block block) {
+        for (BlockFace face : SIGN_CONNECTION_FACES) {
+            if (BlockUtil.isSign(block.getRelative(face))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static Restriction getRestriction(Block block) {
+        Restriction restriction = get(block);
+
+        if (restriction != null && !BlockUtil.isSign(block)) { // removed without an event, for example by physics
+            remove(block);
+            return null;
+        }
+
+        return restriction;
+    }
+
+    private static Restriction get(Block block) {
+        if (restrictions.isEmpty()) {
+            return null;
+        }
+
+        Map<Long, Map<Block, Restriction>> chunks = restrictions.get(block.getWorld().getUID());
+        Map<Block, Restriction> chunk = chunks != null ? chunks.get(ShopIndex.getChunkKey(block.getX() >> 4, block.getZ() >> 4)) : null;
+        return chunk != null ? chunk.get(block) : null;
+    }
+
+    private static void put(Block block, Restriction restriction) {
+        restrictions.computeIfAbsent(block.getWorld().getUID(), uuid -> new HashMap<>())
+                .computeIfAbsent(ShopIndex.getChunkKey(block.getX() >> 4, block.getZ() >> 4), key -> new HashMap<>())
+                .put(block, restriction);
+    }
+
+    private static void remove(Block block) {
+        Map<Long, Map<Block, Restriction>> chunks = restrictions.get(block.getWorld().getUID());
+
+        if (chunks == null) {
+            return;
+        }
+
+        long chunkKey = ShopIndex.getChunkKey(block.getX() >> 4, block.getZ() >> 4);
+        Map<Block, Restriction> chunk = chunks.get(chunkKey);
+
+        if (chunk == null || chunk.remove(block) == null || !chunk.isEmpty()) {
+            return;
+        }
+
+        chunks.remove(chunkKey);
+
+        if (chunks.isEmpty()) {
+            restrictions.remove(block.getWorld().getUID());
+        }
+    }
+
     public static Sign getRestrictedSign(Location location) {
         Block currentBlock = location.getBlock();
 
@@ -159,4 +294,18 @@ public class RestrictedSign implements Listener {
         event.getBlock().breakNaturally();
         event.setCancelled(true);
     }
+
+    private static class Restriction {
+        private final String[] lines;
+        private final String key;
+
+        private Restriction(String[] lines) {
+            this.lines = lines.clone();
+            this.key = String.join("\n", lines);
+        }
+
+        private boolean canAccess(Player player) {
+            return Permission.remember(player, Permission.GROUP, key, p -> hasPermission(p, lines));
+        }
+    }
 }
@@ -0,0 +1,290 @@
+package com.Acrobot.ChestShop.Signs;
+
+import com.Acrobot.ChestShop.Utils.uBlock;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockFace;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Sign;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Positions of the shop signs in loaded chunks, and of the blocks around them which might be protected.
+ * The index can contain signs which aren't shop signs anymore, so a position which is found
+ * still has to be checked. A position which isn't found doesn't belong to any shop it has seen:
+ * signs are only found when they are written or when their chunk loads, so a sign placed in any other way
+ * (for example pasted with WorldEdit) is missing until its chunk loads again.
+ * Must only be used from the main thread.
+ *
+ * @author Acrobot
+ */
+public class ShopIndex {
+    private static final Map<UUID, WorldIndex> worlds = new HashMap<>();
+
+    /**
+     * Adds the sign to the index
+     *
+     * @param sign Shop sign
+     */
+    public static void add(Block sign) {
+        getWorldIndex(sign.getWorld()).add(sign.getX(), sign.getY(), sign.getZ());
+    }
+
+    /**
+     * Removes the sign from the index
+     *
+     * @param sign Sign
+     */
+    public static void remove(Block sign) {
+        WorldIndex index = worlds.get(sign.getWorld().getUID());
+
+        if (index != null) {
+            index.remove(sign.getX(), sign.getY(), sign.getZ());
+        }
+    }
+
+    /**
+     * Replaces the indexed signs of the chunk with the shop and restricted signs currently in it
+     *
+     * @param chunk Loaded chunk
+     */
+    public static void indexChunk(Chunk chunk) {
+        WorldIndex index = getWorldIndex(chunk.getWorld());
+        index.clearChunk(chunk.getX(), chunk.getZ());
+        RestrictedSign.removeChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+
+        for (BlockState state : chunk.getTileEntities()) {
+            if (!(state instanceof Sign)) {
+                continue;
+            }
+
+            Sign sign = (Sign) state;
+
+            if (ChestShopSign.isValid(sign)) {
+                index.add(state.getX(), state.getY(), state.getZ());
+            }
+
+            if (RestrictedSign.isRestricted(sign)) {
+                RestrictedSign.index(sign);
+            }
+        }
+    }
+
+    /**
+     * Removes the signs of the chunk from the index
+     *
+     * @param chunk Unloaded chunk
+     */
+    public static void removeChunk(Chunk chunk) {
+        WorldIndex index = worlds.get(chunk.getWorld().getUID());
+
+        if (index != null) {
+            index.clearChunk(chunk.getX(), chunk.getZ());
+        }
+
+        RestrictedSign.removeChunk(chunk.getWorld(), chunk.getX(), chunk.getZ());
+    }
+
+    /**
+     * Indexes all loaded chunks of the world
+     *
+     * @param world World
+     */
+    public static void indexWorld(World world) {
+        for (Chunk chunk : world.getLoadedChunks()) {
+            indexChunk(chunk);
+        }
+    }
+
+    /**
+     * Removes the world from the index
+     *
+     * @param world World
+     */
+    public static void removeWorld(World world) {
+        worlds.remove(world.getUID());
+        RestrictedSign.removeWorld(world);
+    }
+
+    /**
+     * @param block Block
+     * @return Could the block be a shop sign?
+     */
+    public static boolean isShopSign(Block block) {
+        WorldIndex index = worlds.get(block.getWorld().getUID());
+        return index != null && index.isSign(block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Checks if the block is a shop sign or next to one, so that it could be the shop's container or the sign's support
+     *
+     * @param block Block
+     * @return Could the block belong to a shop?
+     */
+    public static boolean isNearShop(Block block) {
+        WorldIndex index = worlds.get(block.getWorld().getUID());
+        return index != null && index.isNearSign(block.getX(), block.getY(), block.getZ());
+    }
+
+    /**
+     * Returns the index of a world, which can be used to check many blocks of it
+     *
+     * @param world World
+     * @return Index of the world, or null if there are no shops in it
+     */
+    public static WorldIndex getIndex(World world) {
+        return worlds.get(world.getUID());
+    }
+
+    private static WorldIndex getWorldIndex(World world) {
+        return worlds.computeIfAbsent(world.getUID(), uuid -> new WorldIndex());
+    }
+
+    static long getChunkKey(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    static long getPositionKey(int x, int y, int z) {
+        return ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+    }
+
+    private static int getBitIndex(int x, int y, int z) {
+        return (y << 8) | ((z & 15) << 4) | (x & 15);
+    }
+
+    public static class WorldIndex {
+        private final Map<Long, Set<Long>> signs = new HashMap<>();
+        private final Map<Long, BitSet> nearSigns = new HashMap<>();
+
+        private long lastChunkKey = Long.MIN_VALUE;
+        private BitSet lastNearSigns;
+
+        /**
+         * @param x X coordinate of the block
+         * @param y Y coordinate of the block
+         * @param z Z coordinate of the block
+         * @return Could the block be a shop sign?
+         */
+        public boolean isSign(int x, int y, int z) {
+            Set<Long> chunkSigns = signs.get(getChunkKey(x >> 4, z >> 4));
+            return chunkSigns != null && chunkSigns.contains(getPositionKey(x, y, z));
+        }
+
+        /**
+         * @param x X coordinate of the block
+         * @param y Y coordinate of the block
+         * @param z Z coordinate of the block
+         * @return Is the block a shop sign or next to one?
+         */
+        public boolean isNearSign(int x, int y, int z) {
+            if (y < 0 || y > 255) {
+                return false;
+            }
+
+            long chunkKey = getChunkKey(x >> 4, z >> 4);
+
+            if (chunkKey != lastChunkKey) { // blocks which are checked together are mostly in the same chunk
+                lastNearSigns = nearSigns.get(chunkKey);
+                lastChunkKey = chunkKey;
+            }
+
+            return lastNearSigns != null && lastNearSigns.get(getBitIndex(x, y, z));
+        }
+
+        /**
+         * Returns the blocks of the chunk which are shop signs or next to one
+         *
+         * @param chunkX X coordinate of the chunk
+         * @param chunkZ Z coordinate of the chunk
+         * @return Bits indexed by (y << 8) | (z << 4) | x, in chunk coordinates, or null if there are no such blocks
+         */
+        public BitSet getNearSigns(int chunkX, int chunkZ) {
+            return nearSigns.get(getChunkKey(chunkX, chunkZ));
+        }
+
+        private void add(int x, int y, int z) {
+            if (!signs.computeIfAbsent(getChunkKey(x >> 4, z >> 4), key -> new HashSet<>()).add(getPositionKey(x, y, z))) {
+                return;
+            }
+
+            for (BlockFace face : uBlock.SHOP_FACES) {
+                setNear(x + face.getModX(), y + face.getModY(), z + face.getModZ());
+            }
+        }
+
+        private void remove(int x, int y, int z) {
+            long chunkKey = getChunkKey(x >> 4, z >> 4);
+            Set<Long> chunkSigns = signs.get(chunkKey);
+
+            if (chunkSigns == null || !chunkSigns.remove(getPositionKey(x, y, z))) {
+                return;
+            }
+
+            if (chunkSigns.isEmpty()) {
+                signs.remove(chunkKey);
+            }
+
+            rebuildAround(x >> 4, z >> 4);
+        }
+
+        private void clearChunk(int chunkX, int chunkZ) {
+            if (signs.remove(getChunkKey(chunkX, chunkZ)) != null) {
+                rebuildAround(chunkX, chunkZ);
+            }
+        }
+
+        private void setNear(int x, int y, int z) {
+            if (y < 0 || y > 255) {
+                return;
+            }
+
+            nearSigns.computeIfAbsent(getChunkKey(x >> 4, z >> 4), key -> new BitSet()).set(getBitIndex(x, y, z));
+            lastChunkKey = Long.MIN_VALUE;
+        }
+
+        /**
+         * Signs are at most one block away from the blocks they protect,
+         * so only the chunk and its direct neighbours have to be rebuilt
+         */
+        private void rebuildAround(int chunkX, int chunkZ) {
+            for (int dx = -1; dx <= 1; dx++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    nearSigns.remove(getChunkKey(chunkX + dx, chunkZ + dz));
+                }
+            }
+            lastChunkKey = Long.MIN_VALUE;
+
+            for (int dx = -2; dx <= 2; dx++) {
+                for (int dz = -2; dz <= 2; dz++) {
+                    Set<Long> chunkSigns = signs.get(getChunkKey(chunkX + dx, chunkZ + dz));
+
+                    if (chunkSigns == null) {
+                        continue;
+                    }
+
+                    for (long position : chunkSigns) {
+                        int x = (int) (position >> 38);
+                        int y = (int) (position << 52 >> 52);
+                        int z = (int) (position << 26 >> 38);
+
+                        for (BlockFace face : uBlock.SHOP_FACES) {
+                            int nearX = x + face.getModX();
+                            int nearZ = z + face.getModZ();
+
+                            if (Math.abs((nearX >> 4) - chunkX) <= 1 && Math.abs((nearZ >> 4) - chunkZ) <= 1) {
+                                setNear(nearX, y + face.getModY(), nearZ);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,327 @@
+package com.Acrobot.ChestShop.Signs;
+
+import com.Acrobot.Breeze.Utils.InventoryContents;
+import com.Acrobot.Breeze.Utils.InventoryUtil;
+import com.Acrobot.Breeze.Utils.MaterialUtil;
+import com.Acrobot.ChestShop.Configuration.Properties;
+import com.Acrobot.ChestShop.Utils.uBlock;
+import org.bukkit.Location;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Container;
+import org.bukkit.block.DoubleChest;
+import org.bukkit.block.Sign;
+import org.bukkit.inventory.Inventory;
+import org.bukkit.inventory.InventoryHolder;
+import org.bukkit.inventory.ItemStack;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Counts of the shops' own items in their containers, and of how many more of them would fit.
+ * The counts are updated when ChestShop removes items from a shop and forgotten when the container
+ * changes in any other way, so that they are counted again the next time they are needed.
+ * Must only be used from the main thread.
+ *
+ * @author Acrobot
+ */
+public class ShopStock {
+    private static final Map<Block, Stock> shops = new HashMap<>();
+    private static final Map<Block, Set<Block>> shopsByContainer = new HashMap<>();
+
+    /**
+     * Returns the stock of the shop, counting it only if it isn't known yet
+     *
+     * @param sign Shop sign
+     * @return Stock of the shop, or null if the shop has unlimited stock or no container
+     */
+    public static Stock getStock(Sign sign) {
+        if (Properties.STOCK_COUNTER_TIME <= 0 || ChestShopSign.isAdminShop(sign)) {
+            return null;
+        }
+
+        Stock stock = shops.get(sign.getBlock());
+
+        if (stock != null && stock.isFresh()) {
+            return stock;
+        }
+
+        Container container = uBlock.findConnectedContainer(sign);
+        ItemStack item = MaterialUtil.getItem(sign.getLine(ChestShopSign.ITEM_LINE));
+
+        if (container == null || item == null) {
+            return null;
+        }
+
+        return getStock(sign, container.getInventory(), item);
+    }
+
+    /**
+     * Checks if the shop has the items, like {@link InventoryUtil#hasItems(ItemStack[], Inventory)}.
+     * The stock can be out of date, so it's only trusted when it says the items are missing.
+     *
+     * @param sign      Shop sign
+     * @param inventory Inventory of the shop
+     * @param items     Items to check
+     * @return Does the shop have the items?
+     */
+    public static boolean hasItems(Sign sign, Inventory inventory, ItemStack[] items) {
+        ItemStack item = getSingleItem(items);
+        Stock stock = item != null ? getStock(sign, inventory, item) : null;
+
+        if (stock == null) {
+            return InventoryUtil.hasItems(items, inventory);
+        }
+
+        return stock.amount >= item.getAmount() && confirm(sign, InventoryUtil.hasItems(items, inventory));
+    }
+
+    /**
+     * Checks if the items fit in the shop, like {@link InventoryUtil#fits(ItemStack[], Inventory)}.
+     * The free capacity can be out of date, so it's only trusted when it says the items don't fit.
+     *
+     * @param sign      Shop sign
+     * @param inventory Inventory of the shop
+     * @param items     Items to check
+     * @return Do the items fit?
+     */
+    public static boolean fits(Sign sign, Inventory inventory, ItemStack[] items) {
+        ItemStack item = getSingleItem(items);
+        Stock stock = item != null ? getStock(sign, inventory, item) : null;
+
+        if (stock == null) {
+            return InventoryUtil.fits(items, inventory);
+        }
+
+        return stock.freeCapacity >= item.getAmount() && confirm(sign, InventoryUtil.fits(items, inventory));
+    }
+
+    /**
+     * Updates the stock after items were removed from the shop's container.
+     * The stock of other shops using the same container is forgotten.
+     *
+     * @param sign      Shop sign
+     * @param inventory Inventory of the shop
+     * @param item      Removed item
+     * @param removed   Amount of removed items
+     */
+    public static void removed(Sign sign, Inventory inventory, ItemStack item, int removed) {
+        if (shops.isEmpty() || InventoryUtil.isUnlimited(inventory)) {
+            return;
+        }
+
+        Stock stock = shops.get(sign.getBlock());
+
+        if (stock != null && stock.isFor(inventory, item)) {
+            stock.amount -= removed;
+            stock.freeCapacity += removed;
+        } else {
+            forget(sign.getBlock());
+        }
+
+        for (Block container : stock != null ? stock.containers : getContainers(inventory)) {
+            forgetContainer(container, sign.getBlock());
+        }
+    }
+
+    /**
+     * Forgets the stock of the shops using the inventory
+     *
+     * @param inventory Changed inventory
+     */
+    public static void changed(Inventory inventory) {
+        if (shopsByContainer.isEmpty()) {
+            return;
+        }
+
+        Location location = inventory.getLocation(); // a double chest's location is between its halves, so it's inside one of them
+
+        if (location != null) {
+            forgetContainer(location.getBlock(), null);
+        }
+    }
+
+    /**
+     * Forgets the stock of the shops using the block as their container
+     *
+     * @param block Changed block
+     */
+    public static void changed(Block block) {
+        if (!shopsByContainer.isEmpty()) {
+            forgetContainer(block, null);
+        }
+    }
+
+    /**
+     * Forgets the stock of the shop
+     *
+     * @param sign Shop sign
+     */
+    public static void forget(Block sign) {
+        Stock stock = shops.remove(sign);
+
+        if (stock == null) {
+            return;
+        }
+
+        for (Block container : stock.containers) {
+            Set<Block> signs = shopsByContainer.get(container);
+
+            if (signs != null && signs.remove(sign) && signs.isEmpty()) {
+                shopsByContainer.remove(container);
+            }
+        }
+    }
+
+    /**
+     * Forgets the stock of all shops
+     */
+    public static void clear() {
+        shops.clear();
+        shopsByContainer.clear();
+    }
+
+    private static boolean confirm(Sign sign, boolean result) {
+        if (!result) {
+            forget(sign.getBlock());
+        }
+
+        return result;
+    }
+
+    private static void forgetContainer(Block container, Block except) {
+        Set<Block> signs = shopsByContainer.get(container);
+
+        if (signs == null) {
+            return;
+        }
+
+        for (Block sign : signs.toArray(new Block[signs.size()])) {
+            if (!sign.equals(except)) {
+                forget(sign);
+            }
+        }
+    }
+
+    private static Stock getStock(Sign sign, Inventory inventory, ItemStack item) {
+        if (Properties.STOCK_COUNTER_TIME <= 0 || inventory.getMaxStackSize() == Integer.MAX_VALUE) {
+            return null;
+        }
+
+        Block signBlock = sign.getBlock();
+        Stock stock = shops.get(signBlock);
+
+        if (stock != null && stock.isFresh() && stock.isFor(inventory, item)) {
+            return stock;
+        }
+
+        forget(signBlock);
+
+        Block[] containers = getContainers(inventory);
+
+        if (containers.length == 0) {
+            return null;
+        }
+
+        if (shops.size() >= Properties.CACHE_SIZE) {
+            clear();
+        }
+
+        stock = new Stock(inventory, item, containers);
+        shops.put(signBlock, stock);
+
+        for (Block container : containers) {
+            shopsByContainer.computeIfAbsent(container, block -> new HashSet<>()).add(signBlock);
+        }
+
+        return stock;
+    }
+
+    private static ItemStack getSingleItem(ItemStack[] items) {
+        ItemStack[] merged = InventoryUtil.mergeSimilarStacks(items);
+        return merged.length == 1 ? merged[0] : null;
+    }
+
+    private static Block[] getContainers(Inventory inventory) {
+        InventoryHolder holder = inventory.getHolder();
+
+        if (holder instanceof DoubleChest) {
+            DoubleChest chest = (DoubleChest) holder;
+
+            if (chest.getLeftSide() instanceof BlockState && chest.getRightSide() instanceof BlockState) {
+                return new Block[]{((BlockState) chest.getLeftSide()).getBlock(), ((BlockState) chest.getRightSide()).getBlock()};
+            }
+        } else if (holder instanceof BlockState) {
+            return new Block[]{((BlockState) holder).getBlock()};
+        }
+
+        return new Block[0];
+    }
+
+    /**
+     * Stock of one shop
+     */
+    public static class Stock {
+        private final ItemStack item;
+        private final long fingerprint;
+        private final int inventorySize;
+        private final Block[] containers;
+        private final long expiresAt;
+
+        private int amount;
+        private int freeCapacity;
+
+        private Stock(Inventory inventory, ItemStack item, Block[] containers) {
+            this.item = item.clone();
+            this.fingerprint = MaterialUtil.getFingerprint(item);
+            this.inventorySize = inventory.getSize();
+            this.containers = containers;
+            this.expiresAt = System.currentTimeMillis() + Properties.STOCK_COUNTER_TIME * 1000L;
+
+            InventoryContents contents = new InventoryContents(InventoryUtil.getStorageContents(inventory));
+
+            for (int slot = 0; slot < contents.size(); slot++) {
+                ItemStack slotItem = contents.getItem(slot);
+
+                if (MaterialUtil.isEmpty(slotItem)) {
+                    freeCapacity += InventoryUtil.getMaxStackSize(item);
+                } else if (contents.isSimilar(slot, item, fingerprint)) {
+                    amount += slotItem.getAmount();
+                    freeCapacity += InventoryUtil.getMaxStackSize(slotItem) - slotItem.getAmount();
+                }
+            }
+        }
+
+        /**
+         * @return Amount of the shop's item in the container
+         */
+        public int getAmount() {
+            return amount;
+        }
+
+        /**
+         * @return How many more of the shop's item fit in the container
+         */
+        public int getFreeCapacity() {
+            return freeCapacity;
+        }
+
+        /**
+         * @return The shop's item
+         */
+        public ItemStack getItem() {
+            return item.clone();
+        }
+
+        private boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+
+        private boolean isFor(Inventory inventory, ItemStack other) {
+            return inventory.getSize() == inventorySize && MaterialUtil.equals(other, item, fingerprint);
+        }
+    }
+}
@@ -7,6 +7,8 @@ import com.Acrobot.ChestShop.ChestShop;
 import com.Acrobot.ChestShop.Configuration.Properties;
 import com.Acrobot.ChestShop.Database.Account;
 import com.Acrobot.ChestShop.Database.DaoCreator;
+import com.Acrobot.ChestShop.Metrics.Histogram;
+import com.Acrobot.ChestShop.Metrics.MetricsRegistry;
 import com.Acrobot.ChestShop.Permission;
 import com.Acrobot.ChestShop.Signs.ChestShopSign;
 import com.j256.ormlite.dao.Dao;
@@ -38,6 +40,8 @@ public class NameManager {
     private static SimpleCache<String, Account> shortToAccount = new SimpleCache<>(Properties.CACHE_SIZE);
     private static SimpleCache<String, Boolean> invalidPlayers = new SimpleCache<>(Properties.CACHE_SIZE);
 
+    private static final Histogram QUERY_DURATIONS = MetricsRegistry.getTimer("chestshop_db_query_duration_seconds", "table", "accounts");
+
     private static Account adminAccount;
     private static Account serverEconomyAccount;
     private static int uuidVersion = -1;
@@ -52,7 +56,9 @@ public class NameManager {
         try {
             return uuidToAccount.get(uuid, () -> {
                 try {
+                    long start = System.nanoTime();
                     Account account = accounts.queryBuilder().orderBy("lastSeen", false).where().eq("uuid", uuid).queryForFirst();
+                    QUERY_DURATIONS.record(System.nanoTime() - start);
                     if (account != null) {
                         account.setUuid(uuid); // HOW IS IT EVEN POSSIBLE THAT UUID IS NOT SET EVEN IF WE HAVE FOUND THE PLAYER?!
                         shortToAccount.put(account.getShortName(), account);
@@ -81,7 +87,9 @@ public class NameManager {
         try {
             return usernameToAccount.get(fullName, () -> {
                 try {
+                    long start = System.nanoTime();
                     Account account = accounts.queryBuilder().orderBy("lastSeen", false).where().eq("name", fullName).queryForFirst();
+                    QUERY_DURATIONS.record(System.nanoTime() - start);
                     if (account != null) {
                         account.setName(fullName); // HOW IS IT EVEN POSSIBLE THAT THE NAME IS NOT SET EVEN IF WE HAVE FOUND THE PLAYER?!
                         shortToAccount.put(account.getShortName(), account);
@@ -119,7 +127,9 @@ public class NameManager {
             try {
                 account = shortToAccount.get(shortName, () -> {
                     try {
+                        long start = System.nanoTime();
                         Account a = accounts.queryBuilder().where().eq("shortName", shortName).queryForFirst();
+                        QUERY_DURATIONS.record(System.nanoTime() - start);
                         if (a != null) {
                             a.setShortName(shortName); // HOW IS IT EVEN POSSIBLE THAT THE NAME IS NOT SET EVEN IF WE HAVE FOUND THE PLAYER?!
                             return a;
@@ -250,7 +260,9 @@ public class NameManager {
 
         Account latestAccount = null;
         try {
+            long start = System.nanoTime();
             latestAccount = accounts.queryBuilder().where().eq("uuid", uuid).and().eq("name", player.getName()).queryForFirst();
+            QUERY_DURATIONS.record(System.nanoTime() - start);
         } catch (SQLException e) {
             ChestShop.getBukkitLogger().log(Level.WARNING, "Error while searching for latest account of " + player.getName() + "/" + uuid + ":", e);
         }
@@ -262,7 +274,9 @@ public class NameManager {
 
         latestAccount.setLastSeen(new Date());
         try {
+            long start = System.nanoTime();
             accounts.createOrUpdate(latestAccount);
+            QUERY_DURATIONS.record(System.nanoTime() - start);
         } catch (SQLException e) {
             ChestShop.getBukkitLogger().log(Level.WARNING, "Error while updating account " + latestAccount + ":", e);
             return null;
@@ -328,6 +342,11 @@ public class NameManager {
     }
 
     public static void load() {
+        MetricsRegistry.registerCache("name_manager_username", usernameToAccount);
+        MetricsRegistry.registerCache("name_manager_uuid", uuidToAccount);
+        MetricsRegistry.registerCache("name_manager_short_name", shortToAccount);
+        MetricsRegistry.registerCache("name_manager_invalid_players", invalidPlayers);
+
         try {
             accounts = DaoCreator.getDaoAndCreateTable(Account.class);
 
@@ -0,0 +1,48 @@
+package com.Acrobot.ChestShop.Utils;
+
+import org.bukkit.plugin.Plugin;
+
+import java.util.function.IntSupplier;
+
+/**
+ * Runs an action whenever an interval from the configuration has passed.
+ * The interval is read again every second, so a reloaded configuration applies without rescheduling.
+ * While the interval is turned off (zero or less), the action runs every second,
+ * so that nothing that was kept for it is held back.
+ *
+ * @author Acrobot
+ */
+public class IntervalTask implements Runnable {
+    private final IntSupplier seconds;
+    private final Runnable action;
+    private long lastRun = System.currentTimeMillis();
+
+    private IntervalTask(IntSupplier seconds, Runnable action) {
+        this.seconds = seconds;
+        this.action = action;
+    }
+
+    /**
+     * Schedules the action on the main thread
+     *
+     * @param plugin  Plugin owning the task
+     * @param seconds Supplier of the current interval in seconds
+     * @param action  Action to run
+     */
+    public static void schedule(Plugin plugin, IntSupplier seconds, Runnable action) {
+        plugin.getServer().getScheduler().runTaskTimer(plugin, new IntervalTask(seconds, action), 20, 20);
+    }
+
+    @Override
+    public void run() {
+        int interval = seconds.getAsInt();
+        long now = System.currentTimeMillis();
+
+        if (interval > 0 && now - lastRun < interval * 1000L) {
+            return;
+        }
+
+        lastRun = now;
+        action.run();
+    }
+}
@@ -7,6 +7,9 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.Locale;
+import java.util.Random;
+
 import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
@@ -36,4 +39,95 @@ public class MaterialTest {
             assertSame(material, MaterialUtil.getMaterial(shortenedName));
         }
     }
+
+    @Test
+    public void testAbbreviationsMatchOldParser() {
+        Random random = new Random(34);
+        Material[] materials = Material.values();
+
+        for (int i = 0; i < 100000; i++) {
+            String name = abbreviate(materials[random.nextInt(materials.length)].name(), random);
+
+            MaterialUtil.getMaterialCache().clear();
+            assertSame(name, oldGetMaterial(name), MaterialUtil.getMaterial(name));
+            assertSame(name, oldGetMaterial(name), MaterialUtil.getMaterial(name)); // cached
+            if (oldGetMaterial(name) != null) {
+                assertTrue(name, MaterialUtil.getMaterialCache().contains(oldCacheKey(name)));
+            }
+        }
+    }
+
+    /**
+     * Abbreviates a material name the ways players do, e.g. "Dia_Sw", "dia sw", "DiaSw" or "DIAMOND_S"
+     */
+    private static String abbreviate(String name, Random random) {
+        if (random.nextInt(4) == 0) {
+            return name.substring(0, 1 + random.nextInt(name.length()));
+        }
+
+        String[] parts = name.split("_");
+        StringBuilder abbreviation = new StringBuilder();
+        int style = random.nextInt(4);
+
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i].substring(0, 1 + random.nextInt(parts[i].length()));
+
+            if (style == 0) {
+                abbreviation.append(i > 0 ? "_" : "").append(part);
+            } else if (style == 1) {
+                abbreviation.append(i > 0 ? " " : "").append(part.toLowerCase(Locale.ROOT));
+            } else if (style == 2) {
+                abbreviation.append(part.charAt(0)).append(part.substring(1).toLowerCase(Locale.ROOT));
+            } else {
+                abbreviation.append(i > 0 ? " " : "").append(part.charAt(0)).append(part.substring(1).toLowerCase(Locale.ROOT));
+            }
+        }
+
+        return abbreviation.toString();
+    }
+
+    private static String oldCacheKey(String name) {
+        return name.replaceAll("([a-z])([A-Z1-9])", "$1_$2").replace(' ', '_').toUpperCase();
+    }
+
+    /**
+     * The material lookup as it was before the names were indexed, without the cache
+     */
+    private static Material oldGetMaterial(String name) {
+        Material material = Material.matchMaterial(name);
+        if (material != null) {
+            return material;
+        }
+
+        try {
+            return Material.valueOf(name.toUpperCase());
+        } catch (IllegalArgumentException exception) {
+            Material currentEnum = null;
+            String[] typeParts = name.replaceAll("([a-z])([A-Z1-9])", "$1_$2").toUpperCase().split("[ _]");
+            int length = Short.MAX_VALUE;
+            for (Material e : Material.values()) {
+                String enumName = e.name();
+                if (enumName.length() < length && enumName.startsWith(name)) {
+                    length = (short) enumName.length();
+                    currentEnum = e;
+                } else if (typeParts.length > 1) {
+                    String[] nameParts = enumName.split("_");
+                    if (typeParts.length == nameParts.length) {
+                        boolean matched = true;
+                        for (int i = 0; i < nameParts.length; i++) {
+                            if (!nameParts[i].startsWith(typeParts[i])) {
+                                matched = false;
+                                break;
+                            }
+                        }
+                        if (matched) {
+                            currentEnum = e;
+                            break;
+                        }
+                    }
+                }
+            }
+            return currentEnum;
+        }
+    }
 }
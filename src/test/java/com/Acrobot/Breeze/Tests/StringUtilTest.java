@@ -0,0 +1,180 @@
+package com.Acrobot.Breeze.Tests;
+
+import com.Acrobot.Breeze.Utils.MaterialUtil;
+import com.Acrobot.Breeze.Utils.StringUtil;
+import org.bukkit.ChatColor;
+import org.bukkit.Material;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link com.Acrobot.Breeze.Utils.StringUtil}'s text widths and the name shortening using them,
+ * compared with the previous implementations which searched the character string for every character
+ *
+ * @author Acrobot
+ */
+@RunWith(JUnit4.class)
+public class StringUtilTest {
+    private static final String CHARACTERS = " !\"#$%&'()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_'abcdefghijklmnopqrstuvwxyz{|}~¦ÇüéâäàåçêëèïîìÄÅÉæÆôöòûùÿÖÜø£Ø×\u0083áíóúñÑªº¿®¬½¼¡«»";
+    private static final int[] WIDTHS = {4,2,5,6,6,6,6,3,5,5,5,6,2,6,2,6,6,6,6,6,6,6,6,6,6,6,2,2,5,6,5,6,7,6,6,6,6,6,6,6,6,4,6,6,6,6,6,6,6,6,6,6,6,6,6,6,6,6,6,4,6,4,6,6,3,6,6,6,6,6,5,6,6,2,6,5,3,6,6,6,6,6,6,6,4,6,6,6,6,6,6,5,2,5,7,6,6,6,6,6,6,6,6,6,6,6,6,4,6,3,6,6,6,6,6,6,6,6,6,6,6,6,6,6,6,6,4,6,6,3,6,6,6,6,6,6,6,7,6,6,6,2,6,6,8,9,9,6,6,6,8,8,6,8,8,8,8,8,6,6,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,9,6,9,9,9,5,9,9,8,7,7,8,7,8,8,8,7,8,8,7,9,9,6,7,7,7,7,7,9,6,7,8,7,6,6,9,7,6,7,1};
+    private static final String NAME_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+
+    @Test
+    public void testCharWidths() {
+        for (char c = Character.MIN_VALUE; c < Character.MAX_VALUE; c++) {
+            assertEquals("Width of " + (int) c, oldCharWidth(c), StringUtil.getMinecraftCharWidth(c));
+        }
+    }
+
+    @Test
+    public void testStringWidths() {
+        Random random = new Random(33);
+
+        for (int i = 0; i < 10000; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int length = random.nextInt(20); length > 0; length--) {
+                text.append(random.nextInt(4) == 0 ? (char) random.nextInt(0x3000) : CHARACTERS.charAt(random.nextInt(CHARACTERS.length())));
+            }
+
+            String string = text.toString();
+            assertEquals(string, oldStringWidth(string), StringUtil.getMinecraftStringWidth(string));
+
+            int start = string.isEmpty() ? 0 : random.nextInt(string.length());
+            int end = start + random.nextInt(string.length() - start + 1);
+            assertEquals(string, oldStringWidth(string.substring(start, end)), StringUtil.getMinecraftStringWidth(string, start, end));
+        }
+    }
+
+    @Test
+    public void testShortenedMaterialNames() {
+        for (Material material : Material.values()) {
+            for (int maxWidth = 30; maxWidth <= 120; maxWidth += 5) {
+                assertShortenedName(material.name(), maxWidth);
+            }
+        }
+    }
+
+    @Test
+    public void testShortenedGeneratedNames() {
+        Random random = new Random(33);
+
+        for (int i = 0; i < 100000; i++) {
+            StringBuilder name = new StringBuilder();
+            for (int part = random.nextInt(5); part >= 0; part--) {
+                if (name.length() > 0) {
+                    name.append('_');
+                }
+                for (int length = 1 + random.nextInt(12); length > 0; length--) {
+                    name.append(NAME_CHARACTERS.charAt(random.nextInt(NAME_CHARACTERS.length())));
+                }
+            }
+
+            assertShortenedName(name.toString(), 20 + random.nextInt(100));
+        }
+    }
+
+    private static void assertShortenedName(String name, int maxWidth) {
+        String expected;
+        try {
+            expected = oldShortenedName(name, maxWidth);
+        } catch (StringIndexOutOfBoundsException e) {
+            expected = e.getClass().getName();
+        }
+
+        String actual;
+        try {
+            actual = MaterialUtil.getShortenedName(name, maxWidth);
+        } catch (StringIndexOutOfBoundsException e) {
+            actual = e.getClass().getName();
+        }
+
+        assertEquals(name + " shortened to " + maxWidth, expected, actual);
+    }
+
+    private static int oldCharWidth(char c) {
+        if (c != ChatColor.COLOR_CHAR) {
+            int index = CHARACTERS.indexOf(c);
+            if (index > -1) {
+                return WIDTHS[index];
+            } else {
+                return 10;
+            }
+        }
+        return 0;
+    }
+
+    private static int oldStringWidth(String string) {
+        int width = 0;
+        for (char c : string.toCharArray()) {
+            width += oldCharWidth(c);
+        }
+        return width;
+    }
+
+    private static String oldShortenedName(String itemName, int maxWidth) {
+        itemName = StringUtil.capitalizeFirstLetter(itemName.replace('_', ' '), ' ');
+        int width = oldStringWidth(itemName);
+        if (width <= maxWidth) {
+            return itemName;
+        }
+        String[] itemParts = itemName.split(" ");
+        itemName = String.join("", itemParts);
+        width = oldStringWidth(itemName);
+        if (width <= maxWidth) {
+            return itemName;
+        }
+        int exceeding = width - maxWidth;
+        int shortestIndex = 0;
+        int longestIndex = 0;
+        for (int i = 0; i < itemParts.length; i++) {
+            if (oldStringWidth(itemParts[longestIndex]) < oldStringWidth(itemParts[i])) {
+                longestIndex = i;
+            }
+            if (oldStringWidth(itemParts[shortestIndex]) > oldStringWidth(itemParts[i])) {
+                shortestIndex = i;
+            }
+        }
+        int shortestWidth = oldStringWidth(itemParts[shortestIndex]);
+        int longestWidth = oldStringWidth(itemParts[longestIndex]);
+        int remove = longestWidth - shortestWidth;
+        while (remove > 0 && exceeding > 0) {
+            int endWidth = oldCharWidth(itemParts[longestIndex].charAt(itemParts[longestIndex].length() - 1));
+            itemParts[longestIndex] = itemParts[longestIndex].substring(0, itemParts[longestIndex].length() - 1);
+            remove -= endWidth;
+            exceeding -= endWidth;
+        }
+
+        for (int i = itemParts.length - 1; i >= 0 && exceeding > 0; i--) {
+            int partWidth = oldStringWidth(itemParts[i]);
+
+            if (partWidth > shortestWidth) {
+                remove = partWidth - shortestWidth;
+            }
+
+            if (remove > exceeding) {
+                remove = exceeding;
+            }
+
+            while (remove > 0) {
+                int endWidth = oldCharWidth(itemParts[i].charAt(itemParts[i].length() - 1));
+                itemParts[i] = itemParts[i].substring(0, itemParts[i].length() - 1);
+                remove -= endWidth;
+                exceeding -= endWidth;
+            }
+        }
+
+        while (exceeding > 0) {
+            for (int i = itemParts.length - 1; i >= 0 && exceeding > 0; i--) {
+                int endWidth = oldCharWidth(itemParts[i].charAt(itemParts[i].length() - 1));
+                itemParts[i] = itemParts[i].substring(0, itemParts[i].length() - 1);
+                exceeding -= endWidth;
+            }
+        }
+        return String.join("", itemParts);
+    }
+}
@@ -0,0 +1,111 @@
+package com.Acrobot.ChestShop.Tests;
+
+import com.Acrobot.ChestShop.Configuration.MessageTemplate;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link MessageTemplate}, compared with the chain of String.replace calls it replaced
+ * in the transaction messages. The values are non-empty and made of characters which can't start a placeholder,
+ * because the old chain scanned values again after inserting them.
+ *
+ * @author Acrobot
+ */
+@RunWith(JUnit4.class)
+public class MessageTemplateTest {
+    private static final String[] PLACEHOLDERS = {"price", "world", "x", "y", "z", "owner", "buyer", "seller", "item"};
+    private static final String[] NAMES = {"owner", "buyer", "seller"};
+    private static final String[] FRAGMENTS = {"%", "%%", " ", "You bought ", " from ", " for ", "!", "pr", "%pri", "%it", "x", "§a", "§f"};
+    private static final String VALUE_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 .,$:";
+
+    @Test
+    public void testPlaceholders() {
+        MessageTemplate template = MessageTemplate.compile("%buyer bought %item for %price at %x %y %z in %world", PLACEHOLDERS);
+
+        assertEquals("Bob bought 64 Stone for $5 at 1 2 3 in world",
+                template.render("$5", "world", "1", "2", "3", null, "Bob", null, "64 Stone"));
+    }
+
+    @Test
+    public void testMissingValuesAreKept() {
+        MessageTemplate template = MessageTemplate.compile("%owner sold %item to %buyer", PLACEHOLDERS);
+
+        assertEquals("%owner sold %item to Bob", template.render(null, null, null, null, null, null, "Bob", null, null));
+    }
+
+    @Test
+    public void testFirstPlaceholderWins() {
+        MessageTemplate template = MessageTemplate.compile("%items %item", "item", "items");
+
+        assertEquals("As A", template.render("A", "B"));
+    }
+
+    @Test
+    public void testSplit() {
+        MessageTemplate template = MessageTemplate.compile("%buyer bought %item for %price, %item%item", PLACEHOLDERS);
+        MessageTemplate[] parts = template.split("item");
+        String[] values = {"$5", null, null, null, null, null, "Bob", null, "64 Stone"};
+
+        assertEquals(4, parts.length);
+        assertEquals("Bob bought ", parts[0].render(values));
+        assertEquals(" for $5, ", parts[1].render(values));
+        assertEquals("", parts[2].render(values));
+        assertEquals("", parts[3].render(values));
+    }
+
+    @Test
+    public void testSplitWithoutPlaceholder() {
+        MessageTemplate[] parts = MessageTemplate.compile("%buyer bought nothing", PLACEHOLDERS).split("item");
+
+        assertEquals(1, parts.length);
+        assertEquals("Bob bought nothing", parts[0].render(null, null, null, null, null, null, "Bob", null, null));
+    }
+
+    @Test
+    public void testMatchesReplaceChain() {
+        Random random = new Random(38);
+
+        for (int i = 0; i < 100000; i++) {
+            StringBuilder message = new StringBuilder();
+            for (int part = random.nextInt(12); part >= 0; part--) {
+                if (random.nextBoolean()) {
+                    message.append('%').append(PLACEHOLDERS[random.nextInt(PLACEHOLDERS.length)]);
+                } else {
+                    message.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                }
+            }
+
+            String[] values = new String[PLACEHOLDERS.length];
+            for (int value = 0; value < 5; value++) {
+                values[value] = randomValue(random);
+            }
+            int name = 5 + random.nextInt(NAMES.length);
+            values[name] = randomValue(random);
+            values[8] = randomValue(random);
+
+            String expected = message.toString()
+                    .replace("%price", values[0])
+                    .replace("%world", values[1])
+                    .replace("%x", values[2])
+                    .replace("%y", values[3])
+                    .replace("%z", values[4])
+                    .replace("%" + PLACEHOLDERS[name], values[name])
+                    .replace("%item", values[8]);
+
+            assertEquals(message.toString(), expected, MessageTemplate.compile(message.toString(), PLACEHOLDERS).render(values));
+        }
+    }
+
+    private static String randomValue(Random random) {
+        StringBuilder value = new StringBuilder();
+        for (int length = 1 + random.nextInt(10); length > 0; length--) {
+            value.append(VALUE_CHARACTERS.charAt(random.nextInt(VALUE_CHARACTERS.length())));
+        }
+        return value.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package com.Acrobot.ChestShop.Tests;
+
+import com.Acrobot.ChestShop.Configuration.Properties;
+import com.Acrobot.ChestShop.Economy.Money;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Tests for {@link Money}
+ *
+ * @author Acrobot
+ */
+@RunWith(JUnit4.class)
+public class MoneyTest {
+
+    @Before
+    public void setPrecision() {
+        Properties.PRICE_PRECISION = 2;
+    }
+
+    @Test
+    public void testRoundingHalfUp() {
+        assertEquals(29, Money.valueOf(0.285).getUnits());
+        assertEquals(13, Money.valueOf(0.125).getUnits());
+        assertEquals(-13, Money.valueOf(-0.125).getUnits());
+        assertEquals(100, Money.valueOf(0.999).getUnits());
+    }
+
+    @Test
+    public void testRoundingDown() {
+        assertEquals(999, Money.valueOf(9.995, RoundingMode.DOWN).getUnits());
+        assertEquals(999, Money.valueOf(new BigDecimal("9.9999"), RoundingMode.DOWN).getUnits());
+        assertEquals(-12, Money.valueOf(-0.125, RoundingMode.DOWN).getUnits());
+        assertEquals(Long.MAX_VALUE, Money.valueOf(Double.POSITIVE_INFINITY, RoundingMode.DOWN).getUnits());
+    }
+
+    @Test
+    public void testDoubleAndBigDecimalAgree() {
+        for (int thousandths = -5000; thousandths <= 5000; thousandths++) {
+            double amount = thousandths / 1000.0;
+            assertEquals(Money.valueOf(new BigDecimal(Double.toString(amount))), Money.valueOf(amount));
+        }
+    }
+
+    @Test
+    public void testSaturation() {
+        assertEquals(Long.MAX_VALUE, Money.valueOf(Double.POSITIVE_INFINITY).getUnits());
+        assertEquals(Long.MIN_VALUE, Money.valueOf(Double.NEGATIVE_INFINITY).getUnits());
+        assertEquals(Long.MAX_VALUE, Money.valueOf(1e300).getUnits());
+        assertEquals(0, Money.valueOf(Double.NaN).getUnits());
+
+        Money max = Money.ofUnits(Long.MAX_VALUE);
+        assertEquals(Long.MAX_VALUE, max.add(Money.ofUnits(1)).getUnits());
+        assertEquals(Long.MIN_VALUE, Money.ofUnits(Long.MIN_VALUE).subtract(Money.ofUnits(1)).getUnits());
+        assertEquals(Long.MAX_VALUE, max.multiply(2).getUnits());
+    }
+
+    @Test
+    public void testPortion() {
+        Money price = Money.valueOf(10);
+
+        assertEquals(Money.valueOf(0.47), price.portion(3, 64));
+        assertEquals(Money.valueOf(5), price.portion(32, 64));
+        assertEquals(price, price.portion(64, 64));
+        assertEquals(Money.valueOf(0.17), Money.valueOf(1).portion(1, 6));
+        assertEquals(Long.MAX_VALUE, Money.ofUnits(Long.MAX_VALUE).portion(3, 2).getUnits());
+    }
+
+    @Test
+    public void testDivideToIntegral() {
+        assertEquals(3, Money.valueOf(10).divideToIntegral(Money.valueOf(3)));
+        assertEquals(4, Money.valueOf(1).divideToIntegral(Money.valueOf(0.25)));
+        assertEquals(0, Money.valueOf(0.99).divideToIntegral(Money.valueOf(1)));
+        assertEquals(-4, Money.valueOf(-10).divideToIntegral(Money.valueOf(3)));
+        assertEquals(Long.MAX_VALUE, Money.valueOf(1).divideToIntegral(Money.ZERO));
+    }
+}
@@ -0,0 +1,240 @@
+package com.Acrobot.ChestShop.Tests;
+
+import com.Acrobot.ChestShop.Signs.ShopIndex;
+import org.bukkit.Chunk;
+import org.bukkit.World;
+import org.bukkit.block.Block;
+import org.bukkit.block.BlockState;
+import org.bukkit.block.Sign;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for {@link ShopIndex}, with signs next to chunk borders and at negative coordinates
+ *
+ * @author Acrobot
+ */
+@RunWith(JUnit4.class)
+public class ShopIndexTest {
+    private static final String[] SHOP_LINES = {"Acrobot", "64", "B 10:S 5", "Diamond Sword"};
+
+    private World world;
+
+    @Before
+    public void createWorld() {
+        UUID uuid = UUID.randomUUID();
+        world = stub(World.class, "getUID", uuid);
+    }
+
+    @Test
+    public void testAddAtNegativeChunkCorner() {
+        ShopIndex.add(block(-1, 64, -1));
+
+        assertTrue(ShopIndex.isShopSign(block(-1, 64, -1)));
+        assertFalse(ShopIndex.isShopSign(block(-1, 64, 0)));
+        assertFalse(ShopIndex.isShopSign(block(15, 64, 15)));
+
+        assertNear(-1, 64, -1);
+        assertNear(-1, 63, -1);
+        assertNear(-1, 65, -1);
+        assertNear(0, 64, -1);
+        assertNear(-2, 64, -1);
+        assertNear(-1, 64, 0);
+        assertNear(-1, 64, -2);
+
+        assertNotNear(0, 64, 0);
+        assertNotNear(-2, 64, -2);
+        assertNotNear(15, 64, -1);
+        assertNotNear(-1, 64, 15);
+        assertNotNear(-1, 66, -1);
+    }
+
+    @Test
+    public void testRemoveKeepsNeighbouringSigns() {
+        ShopIndex.add(block(-1, 64, -20));
+        ShopIndex.add(block(1, 64, -20));
+
+        ShopIndex.remove(block(-1, 64, -20));
+
+        assertFalse(ShopIndex.isShopSign(block(-1, 64, -20)));
+        assertTrue(ShopIndex.isShopSign(block(1, 64, -20)));
+
+        assertNear(0, 64, -20);
+        assertNear(2, 64, -20);
+        assertNotNear(-1, 64, -20);
+        assertNotNear(-2, 64, -20);
+        assertNotNear(-1, 64, -21);
+        assertNotNear(-1, 65, -20);
+
+        ShopIndex.remove(block(1, 64, -20));
+
+        assertNotNear(0, 64, -20);
+        assertNotNear(1, 64, -20);
+        assertNull(ShopIndex.getIndex(world).getNearSigns(0, -2));
+        assertNull(ShopIndex.getIndex(world).getNearSigns(-1, -2));
+    }
+
+    @Test
+    public void testRemoveUnknownSign() {
+        ShopIndex.add(block(-17, 64, 0));
+
+        ShopIndex.remove(block(-17, 64, 1));
+        ShopIndex.remove(block(-1, 64, 0));
+
+        assertTrue(ShopIndex.isShopSign(block(-17, 64, 0)));
+        assertNear(-16, 64, 0);
+        assertNear(-17, 64, -1);
+    }
+
+    @Test
+    public void testIndexChunkReplacesItsSigns() {
+        ShopIndex.add(block(-16, 10, -32));
+        ShopIndex.add(block(-17, 10, -32));
+
+        ShopIndex.indexChunk(chunk(-1, -2, sign(-5, 200, -17, SHOP_LINES), sign(-6, 200, -17, "Welcome", "to", "the", "market")));
+
+        assertFalse(ShopIndex.isShopSign(block(-16, 10, -32)));
+        assertTrue(ShopIndex.isShopSign(block(-17, 10, -32)));
+        assertTrue(ShopIndex.isShopSign(block(-5, 200, -17)));
+        assertFalse(ShopIndex.isShopSign(block(-6, 200, -17)));
+
+        assertNear(-16, 10, -32);
+        assertNear(-17, 10, -33);
+        assertNotNear(-15, 10, -32);
+        assertNotNear(-16, 10, -33);
+        assertNear(-5, 200, -16);
+        assertNear(-5, 200, -18);
+        assertNotNear(-6, 201, -17);
+
+        ShopIndex.indexChunk(chunk(-2, -2));
+
+        assertFalse(ShopIndex.isShopSign(block(-17, 10, -32)));
+        assertNotNear(-16, 10, -32);
+        assertNotNear(-17, 10, -32);
+        assertNear(-5, 200, -17);
+    }
+
+    @Test
+    public void testRemoveChunk() {
+        ShopIndex.add(block(-16, 64, -1));
+        ShopIndex.add(block(-17, 64, -1));
+
+        ShopIndex.removeChunk(chunk(-1, -1));
+
+        assertFalse(ShopIndex.isShopSign(block(-16, 64, -1)));
+        assertTrue(ShopIndex.isShopSign(block(-17, 64, -1)));
+        assertNear(-16, 64, -1);
+        assertNotNear(-15, 64, -1);
+        assertNotNear(-16, 65, -1);
+    }
+
+    @Test
+    public void testFarCoordinates() {
+        ShopIndex.add(block(-29999984, 100, 29999983));
+        ShopIndex.add(block(29999983, 100, -29999984));
+
+        assertTrue(ShopIndex.isShopSign(block(-29999984, 100, 29999983)));
+        assertNear(-29999985, 100, 29999983);
+        assertNear(-29999984, 100, 29999984);
+        assertNear(29999984, 100, -29999984);
+        assertNear(29999983, 100, -29999985);
+        assertFalse(ShopIndex.isShopSign(block(29999984, 100, -29999983)));
+
+        ShopIndex.remove(block(-29999984, 100, 29999983));
+
+        assertNotNear(-29999985, 100, 29999983);
+        assertNear(29999984, 100, -29999984);
+    }
+
+    @Test
+    public void testWorldHeightLimits() {
+        ShopIndex.add(block(-3, 0, -3));
+        ShopIndex.add(block(-3, 255, -3));
+
+        assertNear(-3, 1, -3);
+        assertNear(-3, 254, -3);
+        assertNotNear(-3, -1, -3);
+        assertNotNear(-3, 256, -3);
+
+        ShopIndex.remove(block(-3, 0, -3));
+
+        assertNotNear(-3, 0, -3);
+        assertNear(-3, 255, -3);
+    }
+
+    @Test
+    public void testRemoveWorld() {
+        ShopIndex.add(block(-1, 64, -1));
+
+        ShopIndex.removeWorld(world);
+
+        assertNull(ShopIndex.getIndex(world));
+        assertFalse(ShopIndex.isShopSign(block(-1, 64, -1)));
+        assertFalse(ShopIndex.isNearShop(block(-1, 64, -1)));
+    }
+
+    private void assertNear(int x, int y, int z) {
+        assertTrue(x + " " + y + " " + z, ShopIndex.isNearShop(block(x, y, z)));
+    }
+
+    private void assertNotNear(int x, int y, int z) {
+        assertFalse(x + " " + y + " " + z, ShopIndex.isNearShop(block(x, y, z)));
+    }
+
+    private Block block(int x, int y, int z) {
+        return stub(Block.class, "getWorld", world, "getX", x, "getY", y, "getZ", z);
+    }
+
+    private Sign sign(int x, int y, int z, String... lines) {
+        return stub(Sign.class, "getWorld", world, "getX", x, "getY", y, "getZ", z, "getLines", lines);
+    }
+
+    private Chunk chunk(int chunkX, int chunkZ, BlockState... tileEntities) {
+        return stub(Chunk.class, "getWorld", world, "getX", chunkX, "getZ", chunkZ, "getTileEntities", tileEntities);
+    }
+
+    /**
+     * Implements the interface with methods returning the given values
+     *
+     * @param type    Interface
+     * @param answers Method names, each followed by its value
+     * @return Implementation of the interface
+     */
+    private static <T> T stub(Class<T> type, Object... answers) {
+        Map<String, Object> values = new HashMap<>();
+        for (int i = 0; i < answers.length; i += 2) {
+            values.put((String) answers[i], answers[i + 1]);
+        }
+
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    default:
+                        return type.getSimpleName() + values;
+                }
+            }
+
+            if (!values.containsKey(method.getName())) {
+                throw new UnsupportedOperationException(method + " with " + Arrays.toString(args));
+            }
+
+            return values.get(method.getName());
+        }));
+    }
+}